@@ -0,0 +1,87 @@
+// Follow traffic on celebrity accounts (10k, 100k and 1M followers):
+//   follow       POST /api/users/{username}/follow and /unfollow
+//   is_following GET /api/users/{username}/is-following
+//   followers    GET /api/users/{username}/followers, first page and cursor pages
+// Every operation should cost the same at each follower count, since each
+// touches one user_followers row or one index range.
+// Follows are sent twice now and then, as a double click would; the repeat
+// must succeed without adding a row.
+//
+// Seed (see seed.sql):  CALL lt_users(1002000);
+//                       CALL lt_followers('lt_celebrity_10k', 10000);
+//                       CALL lt_followers('lt_celebrity_100k', 100000);
+//                       CALL lt_followers('lt_celebrity_1m', 1000000);
+// Then:   k6 run loadtest/celebrity-follow.js
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+import { BASE_URL, SUMMARY_TREND_STATS, login, params, pick, seededUsers } from './lib.js';
+
+const CELEBRITIES = ['lt_celebrity_10k', 'lt_celebrity_100k', 'lt_celebrity_1m'];
+const RATE = Number(__ENV.RATE || 500);
+const DURATION = __ENV.DURATION || '1m';
+// lt_user_1000001 and up follow none of the celebrities at the start
+const FANS = Number(__ENV.FANS || 2000);
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    setupTimeout: '5m',
+    scenarios: {
+        follow: {
+            executor: 'constant-arrival-rate', exec: 'follow', rate: RATE, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 100, maxVUs: 500,
+        },
+        check: {
+            executor: 'constant-arrival-rate', exec: 'isFollowing', rate: RATE, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 50, maxVUs: 500,
+        },
+        list: {
+            executor: 'constant-arrival-rate', exec: 'listFollowers', rate: Math.ceil(RATE / 5), timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 50, maxVUs: 500,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:follow}': ['p(99)<100'],
+        'http_req_duration{name:is_following}': ['p(99)<50'],
+        'http_req_duration{name:followers}': ['p(99)<100'],
+        'checks{check:follow ok}': ['rate>0.999'],
+    },
+};
+
+export function setup() {
+    return { tokens: login(seededUsers(FANS, 1000001)) };
+}
+
+// Fan i works through the celebrities in turn, following on even rounds and unfollowing on odd ones
+export function follow(data) {
+    const i = exec.scenario.iterationInTest;
+    const round = Math.floor(i / FANS);
+    const celebrity = CELEBRITIES[Math.floor(round / 2) % CELEBRITIES.length];
+    const action = round % 2 === 0 ? 'follow' : 'unfollow';
+    const p = params(data.tokens[i % FANS], 'follow');
+    p.tags.celebrity = celebrity;
+    const repeats = action === 'follow' && Math.random() < 0.05 ? 2 : 1;
+    for (let r = 0; r < repeats; r++) {
+        const res = http.post(`${BASE_URL}/api/users/${celebrity}/${action}`, null, p);
+        check(res, { 'follow ok': (x) => x.status === 200 });
+    }
+}
+
+export function isFollowing(data) {
+    const p = params(pick(data.tokens), 'is_following');
+    const celebrity = pick(CELEBRITIES);
+    p.tags.celebrity = celebrity;
+    check(http.get(`${BASE_URL}/api/users/${celebrity}/is-following`, p), { 'read ok': (r) => r.status === 200 });
+}
+
+// A first page, then one to five more through the cursor
+export function listFollowers(data) {
+    const celebrity = pick(CELEBRITIES);
+    const p = params(pick(data.tokens), 'followers');
+    p.tags.celebrity = celebrity;
+    let res = http.get(`${BASE_URL}/api/users/${celebrity}/followers?size=20`, p);
+    for (let n = Math.floor(Math.random() * 5); n > 0 && res.status === 200 && res.json('nextCursor'); n--) {
+        res = http.get(`${BASE_URL}/api/users/${celebrity}/followers?size=20&cursor=${encodeURIComponent(res.json('nextCursor'))}`, p);
+    }
+    check(res, { 'read ok': (r) => r.status === 200 });
+}
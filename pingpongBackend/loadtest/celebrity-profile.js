@@ -0,0 +1,63 @@
+// Public profile and follow counts of an account with 1M followers:
+//   profile      GET /api/users/public/{username}
+//   followers    GET /api/users/{username}/followers/count
+//   following    GET /api/users/{username}/following/count
+// A trickle of follows and unfollows (churn) keeps invalidating the cached
+// profile, so some reads take the miss path; its latency is what the
+// COUNT-over-index and stored-counter reads must keep low.
+//
+// Seed (see seed.sql):  CALL lt_users(1001000); CALL lt_followers('lt_celebrity_1m', 1000000);
+// Then:   k6 run loadtest/celebrity-profile.js
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+import { BASE_URL, SUMMARY_TREND_STATS, login, params, seededUsers } from './lib.js';
+
+const CELEBRITY = __ENV.CELEBRITY || 'lt_celebrity_1m';
+const RATE = Number(__ENV.RATE || 2000);
+const CHURN_RATE = Number(__ENV.CHURN_RATE || 5);
+const DURATION = __ENV.DURATION || '1m';
+// lt_user_1000001 and up do not follow the celebrity at the start
+const CHURN_USERS = 1000;
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    scenarios: {
+        read: {
+            executor: 'constant-arrival-rate', exec: 'read', rate: RATE, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 100, maxVUs: 1000,
+        },
+        churn: {
+            executor: 'constant-arrival-rate', exec: 'churn', rate: CHURN_RATE, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 5,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:profile}': ['p(99)<50'],
+        'http_req_duration{name:followers}': ['p(99)<50'],
+        'http_req_duration{name:following}': ['p(99)<50'],
+    },
+};
+
+export function setup() {
+    return { tokens: login(seededUsers(CHURN_USERS, 1000001)) };
+}
+
+export function read(data) {
+    const token = data.tokens[0];
+    check(http.get(`${BASE_URL}/api/users/public/${CELEBRITY}`, params(token, 'profile')),
+        { 'read ok': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/api/users/${CELEBRITY}/followers/count`, params(token, 'followers')),
+        { 'read ok': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/api/users/${CELEBRITY}/following/count`, params(token, 'following')),
+        { 'read ok': (r) => r.status === 200 });
+}
+
+// Each churn user follows on even rounds and unfollows on odd ones
+export function churn(data) {
+    const i = exec.scenario.iterationInTest;
+    const action = Math.floor(i / CHURN_USERS) % 2 === 0 ? 'follow' : 'unfollow';
+    const res = http.post(`${BASE_URL}/api/users/${CELEBRITY}/${action}`, null,
+        params(data.tokens[i % CHURN_USERS], action));
+    check(res, { 'churn ok': (r) => r.status === 200 });
+}
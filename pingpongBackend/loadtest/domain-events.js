@@ -0,0 +1,102 @@
+// Domain events at 20k a second on one node. Every write below publishes
+// exactly one event, recorded in event_publication within the request's
+// transaction and handed to the async listeners after commit:
+//   like/unlike  BlogChangedEvent (cache eviction, trending)
+//   comment      BlogChangedEvent
+//   follow       FollowChangedEvent (follow graph, timeline backfill)
+// Readers fetch blogs meanwhile; their p99 shows whether event delivery
+// holds up request threads or connections.
+//   write        latency of the event-producing requests, tagged kind
+//   read         GET /api/blogs/{id} latency
+//   outstanding  events.publications.outstanding, events not yet delivered
+//   lag          events.publications.lag, seconds the oldest has waited
+//   queued       executor.queued on the async listener executor
+// Outstanding and lag must level off rather than grow for the run to count.
+//
+// Seed (see seed.sql):  CALL lt_users(20000); CALL lt_blogs('lt_author_events', 100);
+// Start:  ./mvnw spring-boot:run -Dspring-boot.run.arguments=--application.events.metrics-interval=1000
+// Then:   k6 run loadtest/domain-events.js
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check, fail } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, SUMMARY_TREND_STATS, login, metric, params, pick, seededUsers } from './lib.js';
+
+const RATE = Number(__ENV.RATE || 20000);
+const USERS = Number(__ENV.USERS || 20000);
+const DURATION = __ENV.DURATION || '2m';
+const AUTHOR = 'lt_author_events';
+
+const outstanding = new Trend('outstanding');
+const lag = new Trend('lag');
+const queued = new Trend('queued');
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    setupTimeout: '10m',
+    scenarios: {
+        write: {
+            executor: 'constant-arrival-rate', exec: 'write', rate: RATE, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 1000, maxVUs: 4000,
+        },
+        read: {
+            executor: 'constant-arrival-rate', exec: 'read', rate: 500, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 50, maxVUs: 500,
+        },
+        monitor: {
+            executor: 'constant-arrival-rate', exec: 'monitor', rate: 1, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 2,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:write}': ['p(99)<200'],
+        'http_req_duration{name:read}': ['p(99)<100'],
+        'checks{check:write ok}': ['rate>0.99'],
+        dropped_iterations: ['count<' + RATE],
+    },
+};
+
+export function setup() {
+    const tokens = login(seededUsers(USERS), 100);
+    const res = http.get(`${BASE_URL}/api/blogs/user/${AUTHOR}?size=100`, params(tokens[0], 'setup'));
+    if (res.status !== 200 || res.json('content').length === 0) fail(`no blogs by ${AUTHOR}; run lt_blogs first`);
+    return { tokens, blogIds: res.json('content').map((blog) => blog.id) };
+}
+
+function send(method, url, body, token, kind) {
+    const p = params(token, 'write');
+    p.tags.kind = kind;
+    check(http.request(method, url, body, p), { 'write ok': (r) => r.status === 200 || r.status === 204 });
+}
+
+export function write(data) {
+    // Each user sticks to one kind of write; a pass over all users takes one round
+    const i = exec.scenario.iterationInTest;
+    const user = i % USERS;
+    const round = Math.floor(i / USERS);
+    const token = data.tokens[user];
+    const blogs = data.blogIds;
+    if (user % 10 === 0) {
+        // Follows on even rounds, unfollows on odd ones, so every request changes a row
+        send('POST', `${BASE_URL}/api/users/${AUTHOR}/${round % 2 === 0 ? 'follow' : 'unfollow'}`, null, token, 'follow');
+    } else if (user % 10 < 3) {
+        send('POST', `${BASE_URL}/api/blogs/${pick(blogs)}/comments`,
+            JSON.stringify({ content: `Comment ${i}` }), token, 'comment');
+    } else {
+        // Likes each blog in turn, then unlikes them all in the same order
+        const url = `${BASE_URL}/api/blogs/${blogs[round % blogs.length]}/likes`;
+        send(Math.floor(round / blogs.length) % 2 === 0 ? 'POST' : 'DELETE', url, null, token, 'like');
+    }
+}
+
+export function read(data) {
+    const res = http.get(`${BASE_URL}/api/blogs/${pick(data.blogIds)}`, params(pick(data.tokens), 'read'));
+    check(res, { 'read ok': (r) => r.status === 200 });
+}
+
+export function monitor(data) {
+    outstanding.add(metric(data.tokens[0], 'events.publications.outstanding'));
+    lag.add(metric(data.tokens[0], 'events.publications.lag'));
+    const waiting = metric(data.tokens[0], 'executor.queued', 'name:applicationTaskExecutor');
+    if (!Number.isNaN(waiting)) queued.add(waiting);
+}
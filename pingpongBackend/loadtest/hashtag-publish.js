@@ -0,0 +1,88 @@
+// Publishing posts that carry 50 hashtags each, at a rising rate.
+//   publish      POST /api/blogs latency (tags are extracted and written with
+//                the blog; autocomplete and trending catch up after commit)
+//   edit         PUT /api/blogs/{id} latency for an edit swapping 5 of the 50 tags
+//   outstanding  events.publications.outstanding, hashtag events not yet indexed
+//   lag          events.publications.lag, seconds the oldest of them has waited
+// The publish rate climbs to RATE per second; the highest stage without
+// dropped_iterations or a growing lag is the sustainable publishes/s.
+//
+// Seed (see seed.sql):  CALL lt_users(100);
+// Start:  ./mvnw spring-boot:run
+// Then:   k6 run loadtest/hashtag-publish.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, SUMMARY_TREND_STATS, login, metric, params, pick, seededUsers } from './lib.js';
+
+const RATE = Number(__ENV.RATE || 500);
+const AUTHORS = Number(__ENV.AUTHORS || 100);
+const TAGS_PER_POST = 50;
+// Distinct tags in use, so recounts hit both hot and rare tags
+const VOCABULARY = 5000;
+const STAGE_SECONDS = Number(__ENV.STAGE_SECONDS || 60);
+const STAGE = `${STAGE_SECONDS}s`;
+
+const outstanding = new Trend('outstanding');
+const lag = new Trend('lag');
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    setupTimeout: '2m',
+    scenarios: {
+        publish: {
+            executor: 'ramping-arrival-rate', exec: 'publish', startRate: RATE / 4, timeUnit: '1s',
+            preAllocatedVUs: 200, maxVUs: 1000,
+            stages: [
+                { duration: STAGE, target: RATE / 4 },
+                { duration: STAGE, target: RATE / 2 },
+                { duration: STAGE, target: RATE },
+            ],
+        },
+        monitor: {
+            executor: 'constant-arrival-rate', exec: 'monitor', rate: 1, timeUnit: '1s',
+            duration: `${3 * STAGE_SECONDS}s`, preAllocatedVUs: 2,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:publish}': ['p(99)<300'],
+        'http_req_duration{name:edit}': ['p(99)<300'],
+        'checks{check:published}': ['rate>0.99'],
+    },
+};
+
+export function setup() {
+    return { tokens: login(seededUsers(AUTHORS)) };
+}
+
+// Tags are Zipf-like: low numbers are drawn far more often than high ones
+function tags(count) {
+    const picked = new Set();
+    while (picked.size < count) {
+        picked.add(`tag${Math.floor(VOCABULARY ** Math.random())}`);
+    }
+    return [...picked];
+}
+
+function body(tagList) {
+    const words = tagList.map((tag) => `Notes on #${tag} and more.`);
+    return JSON.stringify({ title: `Tagged ${Date.now()}`, content: words.join(' '), hashtags: [] });
+}
+
+export function publish(data) {
+    const token = pick(data.tokens);
+    const tagList = tags(TAGS_PER_POST);
+    const res = http.post(`${BASE_URL}/api/blogs`, body(tagList), params(token, 'publish'));
+    if (!check(res, { published: (r) => r.status === 200 && r.json('hashtags').length === TAGS_PER_POST })) return;
+    // Every tenth post is edited straight away: 5 tags out, 5 new ones in
+    if (Math.random() < 0.1) {
+        const edited = tagList.slice(5).concat(tags(TAGS_PER_POST).filter((tag) => !tagList.includes(tag)).slice(0, 5));
+        const put = http.put(`${BASE_URL}/api/blogs/${res.json('id')}`, body(edited), params(token, 'edit'));
+        check(put, { edited: (r) => r.status === 200 });
+    }
+}
+
+export function monitor(data) {
+    outstanding.add(metric(data.tokens[0], 'events.publications.outstanding'));
+    lag.add(metric(data.tokens[0], 'events.publications.lag'));
+}
@@ -0,0 +1,67 @@
+// A viral post: likes and unlikes on one blog at 10k requests a second.
+//   like         POST/DELETE /api/blogs/{id}/likes latency
+//   pending      likes.write_behind.pending, intents waiting for the next flush
+//   db_waiting   hikaricp.connections.pending, requests waiting for a connection
+// Each user alternates like and unlike, so every request changes a row.
+// Run it once per mode and compare p99 and dropped_iterations:
+//
+// Seed (see seed.sql):  CALL lt_users(20000); CALL lt_blogs('lt_author_hot', 1);
+// Direct:       ./mvnw spring-boot:run
+// Write-behind: ./mvnw spring-boot:run -Dspring-boot.run.arguments=--application.likes.write-behind.enabled=true
+// Then:         k6 run loadtest/hot-likes.js
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check, fail } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, SUMMARY_TREND_STATS, login, metric, params, seededUsers } from './lib.js';
+
+const RATE = Number(__ENV.RATE || 10000);
+const USERS = Number(__ENV.USERS || 20000);
+const DURATION = __ENV.DURATION || '1m';
+
+const pending = new Trend('pending');
+const dbWaiting = new Trend('db_waiting');
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    setupTimeout: '10m',
+    scenarios: {
+        like: {
+            executor: 'constant-arrival-rate', exec: 'toggle', rate: RATE, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 500, maxVUs: 2000,
+        },
+        monitor: {
+            executor: 'constant-arrival-rate', exec: 'monitor', rate: 2, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 2,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:like}': ['p(99)<100'],
+        'checks{check:like ok}': ['rate>0.99'],
+        dropped_iterations: ['count<' + RATE],
+    },
+};
+
+export function setup() {
+    const tokens = login(seededUsers(USERS), 100);
+    const res = http.get(`${BASE_URL}/api/blogs/user/lt_author_hot?size=1`, params(tokens[0], 'blog'));
+    if (res.status !== 200 || res.json('content').length === 0) fail('no blog by lt_author_hot; run lt_blogs first');
+    return { tokens, blogId: res.json('content.0.id') };
+}
+
+export function toggle(data) {
+    const i = exec.scenario.iterationInTest;
+    const token = data.tokens[i % USERS];
+    const url = `${BASE_URL}/api/blogs/${data.blogId}/likes`;
+    // Even rounds through the users like, odd rounds unlike
+    const res = Math.floor(i / USERS) % 2 === 0
+        ? http.post(url, null, params(token, 'like'))
+        : http.del(url, null, params(token, 'like'));
+    check(res, { 'like ok': (r) => r.status === 200 || r.status === 204 });
+}
+
+export function monitor(data) {
+    const waiting = metric(data.tokens[0], 'likes.write_behind.pending');
+    if (!Number.isNaN(waiting)) pending.add(waiting);
+    dbWaiting.add(metric(data.tokens[0], 'hikaricp.connections.pending'));
+}
@@ -0,0 +1,51 @@
+// Shared helpers for the k6 scripts in this directory.
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+export const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+// Password of every account created by seed.sql
+export const PASSWORD = 'loadtest';
+export const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+// p99 next to the defaults, since most targets are stated as p99
+export const SUMMARY_TREND_STATS = ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'];
+
+export function params(token, name) {
+    return {
+        headers: token ? { ...JSON_HEADERS, Authorization: `Bearer ${token}` } : JSON_HEADERS,
+        tags: name ? { name } : {},
+    };
+}
+
+// Logs the accounts in concurrently, chunk by chunk, and returns their tokens in order
+export function login(usernames, chunk = 50) {
+    const tokens = [];
+    for (let i = 0; i < usernames.length; i += chunk) {
+        const responses = http.batch(usernames.slice(i, i + chunk).map((username) => [
+            'POST', `${BASE_URL}/api/auth/login`, JSON.stringify({ username, password: PASSWORD }), params(null, 'login'),
+        ]));
+        responses.forEach((res, j) => {
+            if (!check(res, { 'logged in': (r) => r.status === 200 })) {
+                fail(`login of ${usernames[i + j]} failed with ${res.status}; was seed.sql loaded?`);
+            }
+            tokens.push(res.json('token'));
+        });
+    }
+    return tokens;
+}
+
+// lt_user_1 .. lt_user_<count>, as created by lt_users
+export function seededUsers(count, first = 1) {
+    return Array.from({ length: count }, (_, i) => `lt_user_${first + i}`);
+}
+
+// Current value of an actuator metric, e.g. jvm.threads.live
+export function metric(token, name, tag) {
+    const query = tag ? `?tag=${encodeURIComponent(tag)}` : '';
+    const res = http.get(`${BASE_URL}/actuator/metrics/${name}${query}`, params(token, 'metrics'));
+    return res.status === 200 ? res.json('measurements.0.value') : NaN;
+}
+
+export function pick(values) {
+    return values[Math.floor(Math.random() * values.length)];
+}
@@ -0,0 +1,74 @@
+// Bytes on the wire and latency of the blog list endpoints, which return
+// summaries (title, excerpt, counts) rather than whole posts:
+//   page         GET /api/blogs?page=&size=20
+//   hashtag      GET /api/blogs/search?hashtag=
+//   liked        GET /api/users/me/likes
+// The bytes_<name> trends are response body sizes per page.
+//
+// Seed (see seed.sql):  CALL lt_long_blogs('lt_author_lists', 2000, 4);
+//                       CALL lt_tag_blogs('lt_author_lists', 'loadtest');
+//                       CALL lt_like_blogs('lt_reader_lists', 'lt_author_lists', 200);
+// Then:       k6 run loadtest/list-payload.js
+// For the numbers from before summaries, run the same script against a build
+// from before the excerpt column was added; it reads the same seeded rows.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, SUMMARY_TREND_STATS, login, params } from './lib.js';
+
+const RATE = Number(__ENV.RATE || 100);
+const DURATION = __ENV.DURATION || '1m';
+const PAGES = Number(__ENV.PAGES || 100);
+
+const bytes = {
+    page: new Trend('bytes_page'),
+    hashtag: new Trend('bytes_hashtag'),
+    liked: new Trend('bytes_liked'),
+};
+
+function scenario(exec) {
+    return {
+        executor: 'constant-arrival-rate', exec, rate: RATE, timeUnit: '1s',
+        duration: DURATION, preAllocatedVUs: 20, maxVUs: 200,
+    };
+}
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    scenarios: {
+        page: scenario('page'),
+        hashtag: scenario('hashtag'),
+        liked: scenario('liked'),
+    },
+    thresholds: {
+        'http_req_duration{name:page}': ['p(99)<200'],
+        'http_req_duration{name:hashtag}': ['p(99)<300'],
+        'http_req_duration{name:liked}': ['p(99)<300'],
+        // A page of 20 summaries with 280-character excerpts stays well under this
+        bytes_page: ['p(99)<20000'],
+    },
+};
+
+export function setup() {
+    const [token] = login(['lt_reader_lists']);
+    return { token };
+}
+
+function get(data, name, path) {
+    const res = http.get(`${BASE_URL}${path}`, params(data.token, name));
+    if (check(res, { [`${name} ok`]: (r) => r.status === 200 })) {
+        bytes[name].add(res.body.length);
+    }
+}
+
+export function page(data) {
+    get(data, 'page', `/api/blogs?page=${Math.floor(Math.random() * PAGES)}&size=20`);
+}
+
+export function hashtag(data) {
+    get(data, 'hashtag', '/api/blogs/search?hashtag=loadtest');
+}
+
+export function liked(data) {
+    get(data, 'liked', '/api/users/me/likes');
+}
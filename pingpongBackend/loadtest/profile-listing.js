@@ -0,0 +1,51 @@
+// Profile listing (GET /api/blogs/user/{username}) as the blogs table grows:
+// the author's pages should cost the same with 1M other posts in the table
+// as with none, since they are read through (author_id, created_at, id).
+//   first        first page
+//   next         a page further in, through the cursor of the one before
+//
+// Seed (see seed.sql):  CALL lt_blogs('lt_author_profile', 500);
+// Run:    k6 run loadtest/profile-listing.js
+// Grow:   CALL lt_blogs('lt_author_bulk', 1000000);
+// Run it again and compare; the thresholds hold for both.
+import http from 'k6/http';
+import { check, fail } from 'k6';
+import { BASE_URL, SUMMARY_TREND_STATS, login, params } from './lib.js';
+
+const AUTHOR = __ENV.AUTHOR || 'lt_author_profile';
+const RATE = Number(__ENV.RATE || 300);
+const DURATION = __ENV.DURATION || '1m';
+const DEPTH = Number(__ENV.DEPTH || 10);
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    scenarios: {
+        browse: {
+            executor: 'constant-arrival-rate', exec: 'browse', rate: RATE, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 50, maxVUs: 300,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:first}': ['p(99)<100'],
+        'http_req_duration{name:next}': ['p(99)<100'],
+    },
+};
+
+export function setup() {
+    const [token] = login([AUTHOR]);
+    const res = http.get(`${BASE_URL}/api/blogs/user/${AUTHOR}?size=1`, params(token, 'setup'));
+    if (res.status !== 200 || res.json('content').length === 0) fail(`no blogs by ${AUTHOR}; run lt_blogs first`);
+    return { token };
+}
+
+// Reads the first page, then follows the cursor up to DEPTH pages in
+export function browse(data) {
+    let res = http.get(`${BASE_URL}/api/blogs/user/${AUTHOR}?size=20`, params(data.token, 'first'));
+    check(res, { 'page ok': (r) => r.status === 200 });
+    const pages = 1 + Math.floor(Math.random() * DEPTH);
+    for (let i = 1; i < pages && res.status === 200 && res.json('nextCursor'); i++) {
+        const cursor = encodeURIComponent(res.json('nextCursor'));
+        res = http.get(`${BASE_URL}/api/blogs/user/${AUTHOR}?size=20&cursor=${cursor}`, params(data.token, 'next'));
+        check(res, { 'page ok': (r) => r.status === 200 });
+    }
+}
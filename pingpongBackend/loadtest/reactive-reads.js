@@ -0,0 +1,77 @@
+// Blocking (Spring MVC + JDBC) vs reactive (WebFlux + R2DBC) read paths
+// under 5k concurrent connections: every VU keeps its own connection open
+// and reads a feed page, a blog, its comments and its like count in a loop.
+//   read         latency per request, tagged path:feed|blog|comments|likes
+//   threads      jvm.threads.live during the run
+//   db_waiting   hikaricp.connections.pending (blocking path)
+// Blog ids are drawn from BLOGS posts, so most detail reads miss the cache.
+//
+// Seed (see seed.sql):  CALL lt_blogs('lt_author_reads', 100000);
+// Start:  ./mvnw spring-boot:run -Dspring-boot.run.arguments=--application.reactive.enabled=true
+// Then:   k6 run -e MODE=blocking loadtest/reactive-reads.js
+//         k6 run -e MODE=reactive loadtest/reactive-reads.js
+// and once more with --spring.threads.virtual.enabled=true for the blocking path.
+import http from 'k6/http';
+import { check, fail, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, SUMMARY_TREND_STATS, login, metric, params } from './lib.js';
+
+const MODE = __ENV.MODE || 'reactive';
+const CONNECTIONS = Number(__ENV.CONNECTIONS || 5000);
+const BLOGS = Number(__ENV.BLOGS || 100000);
+const DURATION = __ENV.DURATION || '3m';
+const PREFIX = MODE === 'reactive' ? '/api/reactive/blogs' : '/api/blogs';
+
+const threads = new Trend('threads');
+const dbWaiting = new Trend('db_waiting');
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    scenarios: {
+        read: {
+            executor: 'ramping-vus', exec: 'read',
+            stages: [
+                { duration: '30s', target: CONNECTIONS },
+                { duration: DURATION, target: CONNECTIONS },
+            ],
+        },
+        monitor: {
+            executor: 'constant-arrival-rate', exec: 'monitor', rate: 1, timeUnit: '1s',
+            duration: '3m30s', preAllocatedVUs: 2,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:read}': ['p(99)<1000'],
+        'checks{check:read ok}': ['rate>0.99'],
+    },
+};
+
+export function setup() {
+    const [token] = login(['lt_author_reads']);
+    const res = http.get(`${BASE_URL}/api/blogs/user/lt_author_reads?size=1`, params(token, 'setup'));
+    if (res.status !== 200 || res.json('content').length === 0) fail('no blogs by lt_author_reads; run lt_blogs first');
+    // lt_blogs inserts the posts in one statement, so their ids are consecutive
+    return { token, newest: res.json('content.0.id') };
+}
+
+function get(data, path, kind) {
+    const p = params(data.token, 'read');
+    p.tags.path = kind;
+    const res = http.get(`${BASE_URL}${PREFIX}${path}`, p);
+    check(res, { 'read ok': (r) => r.status === 200 });
+    return res;
+}
+
+export function read(data) {
+    const id = data.newest - Math.floor(Math.random() * BLOGS);
+    get(data, '/feed?size=20', 'feed');
+    get(data, `/${id}`, 'blog');
+    get(data, `/${id}/comments?size=20`, 'comments');
+    get(data, `/${id}/likes/count`, 'likes');
+    sleep(Math.random());
+}
+
+export function monitor(data) {
+    threads.add(metric(data.token, 'jvm.threads.live'));
+    dbWaiting.add(metric(data.token, 'hikaricp.connections.pending'));
+}
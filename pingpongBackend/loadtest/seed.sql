@@ -0,0 +1,103 @@
+-- Synthetic data for the load tests in this directory. Load it into the
+-- application database once the schema exists (start the app once), then
+-- call the procedures a scenario needs with the app stopped: the follow
+-- graph, user search and hashtag indexes are built at startup and do not see
+-- rows written behind the application's back.
+--
+--   docker exec -i mariadb mariadb -uauth_user -pauth_pass auth_db < loadtest/seed.sql
+--   docker exec -i mariadb mariadb -uauth_user -pauth_pass auth_db -e "CALL lt_users(100000)"
+--
+-- Every user is named lt_<something> and has the password "loadtest";
+-- lt_clean() removes all of it again. Row counts come from MariaDB's
+-- sequence engine (seq_1_to_N), so a million rows take seconds, not minutes.
+
+DELIMITER //
+
+-- Users lt_user_1 .. lt_user_<n>; existing ones are kept
+CREATE OR REPLACE PROCEDURE lt_users(n INT)
+BEGIN
+    SET @sql = CONCAT(
+        'INSERT IGNORE INTO users (username, email, password, full_name, token_version) ',
+        'SELECT CONCAT(''lt_user_'', seq), CONCAT(''lt_user_'', seq, ''@loadtest.local''), ',
+        '''$2a$10$1PozcCDMRHC1vV/LcpZOy.YRnD/A6wzZO6kzcywT5NlOoKB4xdUdq'', CONCAT(''Load Test '', seq), 0 ',
+        'FROM seq_1_to_', n);
+    PREPARE stmt FROM @sql;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END //
+
+-- A named account, e.g. lt_author_10k
+CREATE OR REPLACE PROCEDURE lt_account(name VARCHAR(100))
+BEGIN
+    INSERT IGNORE INTO users (username, email, password, full_name, token_version)
+    VALUES (name, CONCAT(name, '@loadtest.local'),
+            '$2a$10$1PozcCDMRHC1vV/LcpZOy.YRnD/A6wzZO6kzcywT5NlOoKB4xdUdq', name, 0);
+END //
+
+-- The first n lt_user_* accounts follow the account; needs lt_users(n) first
+CREATE OR REPLACE PROCEDURE lt_followers(name VARCHAR(100), n INT)
+BEGIN
+    CALL lt_account(name);
+    INSERT IGNORE INTO user_followers (user_id, follower_id)
+    SELECT a.id, f.id
+    FROM users a
+    JOIN (SELECT id FROM users WHERE username LIKE 'lt\_user\_%' ORDER BY id LIMIT n) f
+    WHERE a.username = name;
+END //
+
+-- n blogs by the account, the newest now and each one a minute older than the next
+CREATE OR REPLACE PROCEDURE lt_blogs(name VARCHAR(100), n INT)
+BEGIN
+    CALL lt_account(name);
+    SELECT id INTO @author FROM users WHERE username = name;
+    SET @sql = CONCAT(
+        'INSERT INTO blogs (title, content, excerpt, author_id, like_count, comment_count, created_at, updated_at) ',
+        'SELECT CONCAT(''Load test post '', seq), REPEAT(''Lorem ipsum dolor sit amet. '', 40), ',
+        'LEFT(REPEAT(''Lorem ipsum dolor sit amet. '', 40), 200), ?, 0, 0, ',
+        'NOW() - INTERVAL (', n, ' - seq) MINUTE, NOW() - INTERVAL (', n, ' - seq) MINUTE ',
+        'FROM seq_1_to_', n);
+    PREPARE stmt FROM @sql;
+    EXECUTE stmt USING @author;
+    DEALLOCATE PREPARE stmt;
+END //
+
+-- lt_blogs with about kb kilobytes of content per post, for payload size tests
+CREATE OR REPLACE PROCEDURE lt_long_blogs(name VARCHAR(100), n INT, kb INT)
+BEGIN
+    CALL lt_blogs(name, n);
+    UPDATE blogs b JOIN users u ON u.id = b.author_id
+    SET b.content = REPEAT('Lorem ipsum dolor sit amet. ', kb * 1024 DIV 28)
+    WHERE u.username = name;
+END //
+
+-- Tags every blog of the account with the hashtag
+CREATE OR REPLACE PROCEDURE lt_tag_blogs(name VARCHAR(100), tag VARCHAR(255))
+BEGIN
+    INSERT INTO blog_hashtags (blog_id, hashtag)
+    SELECT b.id, tag FROM blogs b JOIN users u ON u.id = b.author_id WHERE u.username = name;
+END //
+
+-- The liker likes the author's n newest blogs
+CREATE OR REPLACE PROCEDURE lt_like_blogs(liker VARCHAR(100), author VARCHAR(100), n INT)
+BEGIN
+    CALL lt_account(liker);
+    INSERT IGNORE INTO likes (user_id, blog_id, created_at)
+    SELECT l.id, b.id, NOW()
+    FROM users l
+    JOIN (SELECT b.id FROM blogs b JOIN users u ON u.id = b.author_id
+          WHERE u.username = author ORDER BY b.id DESC LIMIT n) b
+    WHERE l.username = liker;
+END //
+
+CREATE OR REPLACE PROCEDURE lt_clean()
+BEGIN
+    DELETE t FROM timeline_entries t JOIN users u ON u.id = t.user_id WHERE u.username LIKE 'lt\_%';
+    DELETE f FROM user_followers f JOIN users u ON u.id = f.user_id OR u.id = f.follower_id WHERE u.username LIKE 'lt\_%';
+    DELETE l FROM likes l JOIN users u ON u.id = l.user_id WHERE u.username LIKE 'lt\_%';
+    DELETE c FROM comments c JOIN users u ON u.id = c.author_id WHERE u.username LIKE 'lt\_%';
+    DELETE h FROM blog_hashtags h JOIN blogs b ON b.id = h.blog_id JOIN users u ON u.id = b.author_id WHERE u.username LIKE 'lt\_%';
+    DELETE b FROM blogs b JOIN users u ON u.id = b.author_id WHERE u.username LIKE 'lt\_%';
+    DELETE FROM users WHERE username LIKE 'lt\_%';
+END //
+
+DELIMITER ;
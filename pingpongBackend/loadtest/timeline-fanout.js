@@ -0,0 +1,74 @@
+// Fan-out-on-write vs fan-out-on-read for the home timeline (GET /api/feed).
+//
+// The author posts once a second while a sample of their followers read
+// their feeds. Run it once per mode and compare:
+//   publish      POST /api/blogs latency (fan-out runs after commit, off the request)
+//   visible      time from publish until the post shows in a follower's feed
+//   feed         GET /api/feed latency for followers
+//
+// Seed (see seed.sql):  CALL lt_users(100000); CALL lt_followers('lt_author_10k', 10000);
+//                       CALL lt_followers('lt_author_100k', 100000);
+// Push mode:  ./mvnw spring-boot:run -Dspring-boot.run.arguments=--application.timeline.celebrity-threshold=1000000
+// Pull mode:  ./mvnw spring-boot:run -Dspring-boot.run.arguments=--application.timeline.celebrity-threshold=0
+// Then:       k6 run -e AUTHOR=lt_author_10k loadtest/timeline-fanout.js
+//             k6 run -e AUTHOR=lt_author_100k loadtest/timeline-fanout.js
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, SUMMARY_TREND_STATS, login, params, pick, seededUsers } from './lib.js';
+
+const AUTHOR = __ENV.AUTHOR || 'lt_author_10k';
+const READERS = Number(__ENV.READERS || 200);
+const DURATION = __ENV.DURATION || '2m';
+
+const visible = new Trend('visible', true);
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    scenarios: {
+        publish: {
+            executor: 'constant-arrival-rate', exec: 'publish', rate: 1, timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 5,
+        },
+        feed: {
+            executor: 'constant-arrival-rate', exec: 'readFeed', rate: Number(__ENV.FEED_RATE || 500), timeUnit: '1s',
+            duration: DURATION, preAllocatedVUs: 100, maxVUs: 500,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:publish}': ['p(99)<500'],
+        'http_req_duration{name:feed}': ['p(99)<200'],
+    },
+};
+
+export function setup() {
+    // lt_followers makes the first n lt_user_* accounts the followers
+    const [authorToken] = login([AUTHOR]);
+    return { authorToken, readerTokens: login(seededUsers(READERS)) };
+}
+
+export function publish(data) {
+    const res = http.post(`${BASE_URL}/api/blogs`, JSON.stringify({
+        title: `Fan-out ${Date.now()}`,
+        content: 'Posted by the timeline load test.',
+        hashtags: [],
+    }), params(data.authorToken, 'publish'));
+    if (!check(res, { published: (r) => r.status === 200 })) return;
+    const id = res.json('id');
+    const posted = Date.now();
+    // One follower polls until the post arrives
+    const token = pick(data.readerTokens);
+    for (let i = 0; i < 100; i++) {
+        const feed = http.get(`${BASE_URL}/api/feed?size=5`, params(token, 'visible-poll'));
+        if (feed.status === 200 && feed.json('content').some((blog) => blog.id === id)) {
+            visible.add(Date.now() - posted);
+            return;
+        }
+        sleep(0.05);
+    }
+}
+
+export function readFeed(data) {
+    const res = http.get(`${BASE_URL}/api/feed?size=20`, params(pick(data.readerTokens), 'feed'));
+    check(res, { 'feed ok': (r) => r.status === 200 });
+}
@@ -0,0 +1,77 @@
+// Platform vs virtual request threads at 2k concurrent clients. Each client
+// loops over its home timeline (inbox and followed celebrities, looked up side
+// by side by ParallelLookups once virtual threads are on), a blog and the
+// author's profile with a short think time.
+//   request      latency, tagged path:feed|blog|profile
+//   threads      jvm.threads.live
+//   db_waiting   hikaricp.connections.pending
+// With platform threads, clients beyond Tomcat's 200 workers queue for a
+// thread; with virtual threads they queue for a pool connection instead.
+//
+// Seed (see seed.sql):  CALL lt_users(2000); CALL lt_followers('lt_celebrity_vt', 2000);
+//                       CALL lt_blogs('lt_celebrity_vt', 1000);
+// Platform: ./mvnw spring-boot:run -Dspring-boot.run.arguments=--application.timeline.celebrity-threshold=1000
+// Virtual:  ./mvnw spring-boot:run -Dspring-boot.run.arguments="--application.timeline.celebrity-threshold=1000 --spring.threads.virtual.enabled=true"
+// Then:     k6 run loadtest/virtual-threads.js
+import http from 'k6/http';
+import { check, fail, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, SUMMARY_TREND_STATS, login, metric, params, pick, seededUsers } from './lib.js';
+
+const CLIENTS = Number(__ENV.CLIENTS || 2000);
+const DURATION = __ENV.DURATION || '3m';
+const RAMP = '30s';
+const AUTHOR = 'lt_celebrity_vt';
+
+const threads = new Trend('threads');
+const dbWaiting = new Trend('db_waiting');
+
+export const options = {
+    summaryTrendStats: SUMMARY_TREND_STATS,
+    setupTimeout: '5m',
+    scenarios: {
+        clients: {
+            executor: 'ramping-vus', exec: 'client',
+            stages: [
+                { duration: RAMP, target: CLIENTS },
+                { duration: DURATION, target: CLIENTS },
+            ],
+        },
+        // Samples the steady state only, once every client is connected
+        monitor: {
+            executor: 'constant-arrival-rate', exec: 'monitor', rate: 1, timeUnit: '1s',
+            duration: DURATION, startTime: RAMP, preAllocatedVUs: 2,
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:request}': ['p(99)<500'],
+        'checks{check:request ok}': ['rate>0.99'],
+    },
+};
+
+export function setup() {
+    const tokens = login(seededUsers(CLIENTS), 100);
+    const res = http.get(`${BASE_URL}/api/blogs/user/${AUTHOR}?size=100`, params(tokens[0], 'setup'));
+    if (res.status !== 200 || res.json('content').length === 0) fail(`no blogs by ${AUTHOR}; run lt_blogs first`);
+    return { tokens, blogIds: res.json('content').map((blog) => blog.id) };
+}
+
+function get(token, path, kind) {
+    const p = params(token, 'request');
+    p.tags.path = kind;
+    check(http.get(`${BASE_URL}${path}`, p), { 'request ok': (r) => r.status === 200 });
+}
+
+export function client(data) {
+    // One client per VU, each with its own account
+    const token = data.tokens[(__VU - 1) % data.tokens.length];
+    get(token, '/api/feed?size=20', 'feed');
+    get(token, `/api/blogs/${pick(data.blogIds)}`, 'blog');
+    get(token, `/api/users/public/${AUTHOR}`, 'profile');
+    sleep(0.5 + Math.random());
+}
+
+export function monitor(data) {
+    threads.add(metric(data.tokens[0], 'jvm.threads.live'));
+    dbWaiting.add(metric(data.tokens[0], 'hikaricp.connections.pending'));
+}
@@ -0,0 +1,36 @@
+package com.pingpong.pingpongBackend;
+
+import java.util.function.Supplier;
+
+/**
+ * Rough retained size of a structure: heap in use after a full collection
+ * with the structure alive, minus heap in use before it was built. Good to a
+ * few percent on an otherwise idle JVM, which is all the footprint mains in
+ * this source tree need.
+ */
+public final class Footprint {
+    private Footprint() {
+    }
+
+    public static long retainedBytes(Supplier<?> build) {
+        long before = usedAfterGc();
+        Object built = build.get();
+        long after = usedAfterGc();
+        // Keeps built reachable until the second measurement
+        if (built.hashCode() == 42) System.out.print("");
+        return after - before;
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,116 @@
+package com.pingpong.pingpongBackend.security;
+
+import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authenticating one request with a bearer token. {@code perCallParsing} is
+ * what the filter used to do: build the key and a parser and parse the token
+ * three times (username, then subject and expiry again for validity).
+ * {@code filterCold} runs JwtAuthenticationFilter with the verified-token
+ * cache disabled, so every request parses once with the shared parser;
+ * {@code filter} is the steady state, the token already verified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+    // The development key from application.yml
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    String token;
+    JwtAuthenticationFilter filter;
+    JwtAuthenticationFilter coldFilter;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = jwtService(10_000);
+        token = jwtService.generateToken(User.builder()
+                .id(1L).username("alice").email("alice@example.test").password("unused").tokenVersion(0)
+                .build());
+        filter = new JwtAuthenticationFilter(jwtService, tokenVersions());
+        coldFilter = new JwtAuthenticationFilter(jwtService(0), tokenVersions());
+    }
+
+    @Benchmark
+    public Claims perCallParsing() {
+        Claims claims = null;
+        for (int i = 0; i < 3; i++) {
+            claims = Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+        return claims;
+    }
+
+    @Benchmark
+    public Object filterCold() throws ServletException, IOException {
+        return authenticate(coldFilter);
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        return authenticate(filter);
+    }
+
+    private Object authenticate(JwtAuthenticationFilter target) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/feed");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            target.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static JwtService jwtService(long verifiedCacheSize) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", Duration.ofDays(1).toMillis());
+        ReflectionTestUtils.setField(service, "refreshExpiration", Duration.ofDays(7).toMillis());
+        ReflectionTestUtils.setField(service, "verifiedCacheSize", verifiedCacheSize);
+        service.init();
+        return service;
+    }
+
+    // Every user is at version 0, as if the version were cached
+    private static TokenVersionCache tokenVersions() {
+        UserRepository users = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findTokenVersionById")) return Optional.of(0);
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new TokenVersionCache(users, 10_000, Duration.ofMinutes(1));
+    }
+}
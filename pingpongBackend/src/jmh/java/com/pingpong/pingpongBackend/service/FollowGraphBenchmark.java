@@ -0,0 +1,64 @@
+package com.pingpong.pingpongBackend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follow queries on a loaded graph between random users: isFollowing,
+ * mutual followers of a popular account, and two-hop suggestions.
+ * Memory is reported by {@link FollowGraphFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class FollowGraphBenchmark {
+    @Param({"1000000", "10000000"})
+    int edges;
+
+    FollowGraphService graph;
+    int users;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup
+    public void setUp() {
+        SyntheticFollowGraph table = new SyntheticFollowGraph(edges, 5);
+        users = table.users;
+        graph = new FollowGraphService(table);
+        graph.load();
+    }
+
+    @Benchmark
+    public boolean isFollowing(Cursor cursor) {
+        return graph.isFollowing(cursor.random.nextInt(users), cursor.random.nextInt(users));
+    }
+
+    // Popular accounts have the low ids
+    @Benchmark
+    public long[] mutualFollowers(Cursor cursor) {
+        return graph.mutualFollowers(cursor.random.nextInt(users), cursor.random.nextInt(100), 20);
+    }
+
+    @Benchmark
+    public long[] suggestions(Cursor cursor) {
+        return graph.suggestions(cursor.random.nextInt(users), 20);
+    }
+}
@@ -0,0 +1,29 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.Footprint;
+
+/**
+ * Heap retained by a loaded follow graph, per million edges:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.main=com.pingpong.pingpongBackend.service.FollowGraphFootprint
+ * Takes the edge counts to try as arguments; 1M and 10M by default.
+ */
+public class FollowGraphFootprint {
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1_000_000, 10_000_000};
+        for (int edges : sizes) {
+            int[] loaded = new int[2];
+            long bytes = Footprint.retainedBytes(() -> {
+                SyntheticFollowGraph table = new SyntheticFollowGraph(edges, 5);
+                FollowGraphService graph = new FollowGraphService(table);
+                graph.load();
+                loaded[0] = table.edges;
+                loaded[1] = table.users;
+                return graph;
+            });
+            System.out.printf("%,d edges over %,d users: %,d bytes retained, %.1f MB per million edges, %.1f bytes per edge%n",
+                    loaded[0], loaded[1], bytes, bytes / (loaded[0] / 1e6) / (1 << 20), (double) bytes / loaded[0]);
+        }
+    }
+}
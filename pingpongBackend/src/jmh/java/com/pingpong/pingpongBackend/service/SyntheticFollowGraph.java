@@ -0,0 +1,81 @@
+package com.pingpong.pingpongBackend.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Serves FollowGraphService.load a generated user_followers table instead of
+ * querying one: about edges rows over edges / 20 users, each following 20 on
+ * average, with followees drawn from a long-tailed popularity so a few
+ * accounts collect a large share of the followers. The rows are dropped after
+ * the second pass, so they do not count towards the loaded graph's footprint.
+ */
+class SyntheticFollowGraph extends JdbcTemplate {
+    static final int AVERAGE_FOLLOWING = 20;
+
+    final int users;
+    final int edges;
+    // follower << 32 | followee, sorted and without duplicates
+    private long[] byFollower;
+    private long[] byFollowee;
+
+    SyntheticFollowGraph(int edges, long seed) {
+        users = Math.max(2, edges / AVERAGE_FOLLOWING);
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] rows = new long[edges];
+        int n = 0;
+        while (n < edges) {
+            long follower = random.nextInt(users);
+            // Inverse power law: low ids are the popular accounts
+            long followee = (long) (users * Math.pow(random.nextDouble(), 3));
+            if (follower != followee) rows[n++] = follower << 32 | followee;
+        }
+        Arrays.sort(rows);
+        byFollower = distinct(rows);
+        this.edges = byFollower.length;
+        byFollowee = new long[byFollower.length];
+        for (int i = 0; i < byFollower.length; i++) {
+            byFollowee[i] = (byFollower[i] & 0xFFFFFFFFL) << 32 | byFollower[i] >>> 32;
+        }
+        Arrays.sort(byFollowee);
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) sorted[n++] = sorted[i];
+        }
+        return Arrays.copyOf(sorted, n);
+    }
+
+    // The two ordered scans FollowGraphService.load issues, in that order
+    @Override
+    public void query(String sql, RowCallbackHandler handler) {
+        boolean followerFirst = sql.contains("ORDER BY follower_id");
+        long[] rows = followerFirst ? byFollower : byFollowee;
+        long[] current = new long[1];
+        ResultSet row = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("getLong")) throw new UnsupportedOperationException(method.getName());
+                    return (int) args[0] == 1 ? current[0] >>> 32 : current[0] & 0xFFFFFFFFL;
+                });
+        try {
+            for (long r : rows) {
+                current[0] = r;
+                handler.processRow(row);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        if (!followerFirst) {
+            byFollower = null;
+            byFollowee = null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.pingpong.pingpongBackend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tag extraction for one post, as done on every publish and edit: the
+ * tokenizer against the pattern BlogService used to compile on each call.
+ * Posts carry 50 tags by default, spread over prose of about 2 KB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashtagTokenizerBenchmark {
+    private static final Pattern HASHTAG = Pattern.compile("#(\\w+)");
+
+    @Param({"0", "50"})
+    int tags;
+
+    String content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(5);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            text.append("Some words about the day, ");
+            if (i < tags) text.append('#').append(random.nextBoolean() ? "Travel" : "food").append(i);
+            text.append(" and a little more. ");
+        }
+        content = text.toString();
+    }
+
+    @Benchmark
+    public Set<String> tokenizer() {
+        return HashtagTokenizer.extract(content);
+    }
+
+    @Benchmark
+    public Set<String> regexCompiledPerCall() {
+        Set<String> hashtags = new HashSet<>();
+        Matcher matcher = Pattern.compile("#(\\w+)").matcher(content);
+        while (matcher.find()) {
+            hashtags.add(matcher.group(1).toLowerCase());
+        }
+        return hashtags;
+    }
+
+    @Benchmark
+    public Set<String> regexPrecompiled() {
+        Set<String> hashtags = new HashSet<>();
+        Matcher matcher = HASHTAG.matcher(content);
+        while (matcher.find()) {
+            hashtags.add(matcher.group(1).toLowerCase());
+        }
+        return hashtags;
+    }
+}
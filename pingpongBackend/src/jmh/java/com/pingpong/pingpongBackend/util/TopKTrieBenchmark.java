@@ -0,0 +1,99 @@
+package com.pingpong.pingpongBackend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashtag autocomplete at the size the startup load has to handle: lookups
+ * for one- to three-character prefixes, a recount of a single tag, and a
+ * full load. Memory is reported by {@link TopKTrieFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TopKTrieBenchmark {
+    // HashtagIndexService keeps this many completions per node
+    static final int K = 20;
+
+    @Param("1000000")
+    int tags;
+
+    Map<String, Long> weights;
+    String[] terms;
+    String[] prefixes;
+    TopKTrie trie;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        weights = tags(tags, 7);
+        terms = weights.keySet().toArray(String[]::new);
+        SplittableRandom random = new SplittableRandom(11);
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String term = terms[random.nextInt(terms.length)];
+            prefixes[i] = term.substring(0, Math.min(term.length(), 1 + random.nextInt(3)));
+        }
+        trie = new TopKTrie(K);
+        trie.load(weights);
+    }
+
+    @Benchmark
+    public List<TopKTrie.Entry> topK(Cursor cursor) {
+        return trie.topK(prefixes[cursor.random.nextInt(prefixes.length)], 10);
+    }
+
+    // One recount of an existing tag, as onHashtagsChanged applies it
+    @Benchmark
+    public void update(Cursor cursor) {
+        trie.add(terms[cursor.random.nextInt(terms.length)], 1);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public TopKTrie load() {
+        TopKTrie fresh = new TopKTrie(K);
+        fresh.load(weights);
+        return fresh;
+    }
+
+    // Lower-case tags of 3 to 12 characters with a long-tailed use count
+    static Map<String, Long> tags(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Map<String, Long> weights = new HashMap<>(count * 2);
+        StringBuilder tag = new StringBuilder();
+        while (weights.size() < count) {
+            tag.setLength(0);
+            int length = 3 + random.nextInt(10);
+            for (int i = 0; i < length; i++) tag.append((char) ('a' + random.nextInt(26)));
+            weights.put(tag.toString(), 1 + (long) (1_000_000 / Math.pow(1 + random.nextInt(count), 0.8)));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,20 @@
+package com.pingpong.pingpongBackend.util;
+
+import com.pingpong.pingpongBackend.Footprint;
+
+/**
+ * Heap retained by a loaded trie, tag strings included, as after
+ * HashtagIndexService.load drops its counts map:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.main=com.pingpong.pingpongBackend.util.TopKTrieFootprint
+ */
+public class TopKTrieFootprint {
+    public static void main(String[] args) {
+        int tags = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long bytes = Footprint.retainedBytes(() -> {
+            TopKTrie loaded = new TopKTrie(TopKTrieBenchmark.K);
+            loaded.load(TopKTrieBenchmark.tags(tags, 7));
+            return loaded;
+        });
+        System.out.printf("%,d tags: %,d bytes retained, %.1f per tag%n", tags, bytes, (double) bytes / tags);
+    }
+}
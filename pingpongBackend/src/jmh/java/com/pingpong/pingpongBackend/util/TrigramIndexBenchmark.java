@@ -0,0 +1,89 @@
+package com.pingpong.pingpongBackend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User search as UserSearchService runs it, over usernames and full names
+ * drawn from small name lists so that common grams are really common. Each
+ * benchmark is one kind of query: a whole username, a short prefix, a first
+ * name shared by a tenth of all users, a misspelt name, and a miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TrigramIndexBenchmark {
+    private static final String[] FIRST = {"john", "maria", "ahmed", "li", "olga", "pedro", "fatima", "kenji", "anna", "david"};
+    private static final String[] LAST = {"smith", "garcia", "chen", "kowalski", "nguyen", "okafor", "rossi", "tanaka", "muller", "silva"};
+    // UserController's default page size
+    private static final int LIMIT = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    int users;
+
+    TrigramIndex index;
+    String[] usernames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(3);
+        Map<Long, String[]> all = new HashMap<>(users * 2);
+        usernames = new String[users];
+        for (int id = 0; id < users; id++) {
+            String first = FIRST[random.nextInt(FIRST.length)];
+            String last = LAST[random.nextInt(LAST.length)];
+            usernames[id] = first.charAt(0) + last + id;
+            all.put((long) id, new String[]{usernames[id], first + " " + last});
+        }
+        index = new TrigramIndex();
+        index.load(all);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public long[] exactUsername(Cursor cursor) {
+        return index.search(usernames[cursor.random.nextInt(users)], LIMIT);
+    }
+
+    @Benchmark
+    public long[] shortPrefix() {
+        return index.search("ma", LIMIT);
+    }
+
+    @Benchmark
+    public long[] commonName() {
+        return index.search("kowalski", LIMIT);
+    }
+
+    @Benchmark
+    public long[] typo() {
+        return index.search("jhon", LIMIT);
+    }
+
+    @Benchmark
+    public long[] miss() {
+        return index.search("zzyzx", LIMIT);
+    }
+}
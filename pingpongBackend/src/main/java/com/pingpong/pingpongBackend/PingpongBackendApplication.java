@@ -1,13 +1,21 @@
 package com.pingpong.pingpongBackend;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 public class PingpongBackendApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(PingpongBackendApplication.class, args);
+		SpringApplication application = new SpringApplication(PingpongBackendApplication.class);
+		// Offline commands (see SearchIndexRebuildRunner) start without a web server
+		if (Arrays.asList(args).contains("--rebuild-search-index")) {
+			application.setWebApplicationType(WebApplicationType.NONE);
+		}
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,45 @@
+package com.pingpong.pingpongBackend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pingpong.pingpongBackend.dto.BlogResponse;
+import com.pingpong.pingpongBackend.dto.UserProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    // Rendered single-blog responses; hit/miss/eviction counts are published as cache.* metrics
+    @Bean
+    public Cache<Long, BlogResponse> blogCache(
+            @Value("${application.cache.blogs.maximum-size:10000}") long maximumSize,
+            @Value("${application.cache.blogs.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        Cache<Long, BlogResponse> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "blogs");
+    }
+
+    // Public profiles with follow counts, keyed by username
+    @Bean
+    public Cache<String, UserProfile> profileCache(
+            @Value("${application.cache.profiles.maximum-size:10000}") long maximumSize,
+            @Value("${application.cache.profiles.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        Cache<String, UserProfile> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "profiles");
+    }
+}
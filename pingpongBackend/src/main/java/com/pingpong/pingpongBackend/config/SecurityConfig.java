@@ -1,6 +1,7 @@
 package com.pingpong.pingpongBackend.config;
 
 import com.pingpong.pingpongBackend.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,9 +33,12 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                // Completion of an async (Mono) response; the original request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**", "/v1/api-docs/**", "/swagger-ui/**").permitAll()
                 .requestMatchers("/api/blogs").permitAll()
                 .requestMatchers("/api/blogs/{id}").permitAll()
+                .requestMatchers("/api/reactive/blogs/{id}").permitAll()
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
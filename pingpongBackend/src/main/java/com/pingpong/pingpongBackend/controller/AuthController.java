@@ -3,11 +3,14 @@ package com.pingpong.pingpongBackend.controller;
 import com.pingpong.pingpongBackend.dto.auth.AuthResponse;
 import com.pingpong.pingpongBackend.dto.auth.LoginRequest;
 import com.pingpong.pingpongBackend.dto.auth.RegisterRequest;
+import com.pingpong.pingpongBackend.exception.UnauthorizedException;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
 import com.pingpong.pingpongBackend.service.AuthService;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -27,4 +30,13 @@ public class AuthController {
     public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
         return ResponseEntity.ok(authService.login(request));
     }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            throw new UnauthorizedException("Not authenticated");
+        }
+        authService.revokeTokens(user.id());
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
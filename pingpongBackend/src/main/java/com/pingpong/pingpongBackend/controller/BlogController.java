@@ -3,10 +3,14 @@ package com.pingpong.pingpongBackend.controller;
 import com.pingpong.pingpongBackend.dto.ApiResponse;
 import com.pingpong.pingpongBackend.dto.BlogRequest;
 import com.pingpong.pingpongBackend.dto.BlogResponse;
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
 import com.pingpong.pingpongBackend.dto.PaginatedResponse;
 import com.pingpong.pingpongBackend.entity.Blog;
-import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
+import com.pingpong.pingpongBackend.service.BlogSearchService;
 import com.pingpong.pingpongBackend.service.BlogService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.util.List;
 
@@ -24,20 +29,27 @@ import java.util.List;
 public class BlogController {
 
     private final BlogService blogService;
+    private final BlogSearchService blogSearchService;
 
     @PostMapping
     public ResponseEntity<BlogResponse> publishBlog(
             @RequestBody BlogRequest request,
-            @AuthenticationPrincipal User user) {
-        BlogResponse response = blogService.publishBlog(request, user.getUsername());
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        BlogResponse response = blogService.publishBlog(request, user.username());
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<BlogResponse>> getAllBlogs() {
+    public ResponseEntity<List<BlogSummaryResponse>> getAllBlogs() {
         return ResponseEntity.ok(blogService.getAllBlogs());
     }
 
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportBlogs(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        blogService.exportBlogs(response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BlogResponse> getBlogById(@PathVariable Long id) {
         return ResponseEntity.ok(blogService.getBlogById(id));
@@ -47,32 +59,50 @@ public class BlogController {
     public ResponseEntity<BlogResponse> updateBlog(
             @PathVariable Long id,
             @RequestBody BlogRequest request,
-            @AuthenticationPrincipal User user) throws AccessDeniedException {
-        return ResponseEntity.ok(blogService.updateBlog(id, request, user.getUsername()));
+            @AuthenticationPrincipal AuthenticatedUser user) throws AccessDeniedException {
+        return ResponseEntity.ok(blogService.updateBlog(id, request, user.username()));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBlog(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) throws AccessDeniedException {
-        blogService.deleteBlog(id, user.getUsername());
+            @AuthenticationPrincipal AuthenticatedUser user) throws AccessDeniedException {
+        blogService.deleteBlog(id, user.username());
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/user/{username}")
-    public ResponseEntity<List<BlogResponse>> getBlogsByUser(@PathVariable String username) {
-        return ResponseEntity.ok(blogService.getBlogsByUser(username));
+    public ResponseEntity<CursorPage<BlogSummaryResponse>> getBlogsByUser(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(blogService.getBlogsByUser(username, cursor, size));
     }
 
     @GetMapping
-    public ResponseEntity<PaginatedResponse<BlogResponse>> getBlogs(
+    public ResponseEntity<PaginatedResponse<BlogSummaryResponse>> getBlogs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         return ResponseEntity.ok(blogService.getBlogsPaginated(page, size));
     }
 
-    @GetMapping("/search")
-    public ResponseEntity<List<BlogResponse>> searchBlogsByHashtag(@RequestParam String hashtag) {
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<BlogSummaryResponse>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(blogService.getFeed(cursor, size));
+    }
+
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<CursorPage<BlogSummaryResponse>> searchBlogs(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(blogSearchService.search(q, cursor, size));
+    }
+
+    @GetMapping(value = "/search", params = "hashtag")
+    public ResponseEntity<List<BlogSummaryResponse>> searchBlogsByHashtag(@RequestParam String hashtag) {
         return ResponseEntity.ok(blogService.getBlogsByHashtag(hashtag));
     }
 
@@ -2,15 +2,14 @@ package com.pingpong.pingpongBackend.controller;
 
 import com.pingpong.pingpongBackend.dto.CommentRequest;
 import com.pingpong.pingpongBackend.dto.CommentResponse;
-import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.dto.CursorPage;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
 import com.pingpong.pingpongBackend.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/blogs/{blogId}/comments")
 @RequiredArgsConstructor
@@ -21,21 +20,24 @@ public class CommentController {
     public ResponseEntity<CommentResponse> addComment(
             @PathVariable Long blogId,
             @RequestBody CommentRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         CommentResponse response = commentService.addComment(blogId, request, user);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable Long blogId) {
-        return ResponseEntity.ok(commentService.getComments(blogId));
+    public ResponseEntity<CursorPage<CommentResponse>> getComments(
+            @PathVariable Long blogId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getComments(blogId, cursor, size));
     }
 
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long blogId,
             @PathVariable Long commentId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         commentService.deleteComment(commentId, user);
         return ResponseEntity.noContent().build();
     }
@@ -45,7 +47,7 @@ public class CommentController {
             @PathVariable Long blogId,
             @PathVariable Long commentId,
             @RequestBody CommentRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         CommentResponse response = commentService.updateComment(blogId, commentId, request, user);
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,26 @@
+package com.pingpong.pingpongBackend.controller;
+
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
+import com.pingpong.pingpongBackend.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class FeedController {
+    private final TimelineService timelineService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<BlogSummaryResponse>> getFeed(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(timelineService.getTimeline(user.id(), cursor, size));
+    }
+}
@@ -1,6 +1,6 @@
 package com.pingpong.pingpongBackend.controller;
 
-import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
 import com.pingpong.pingpongBackend.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -14,24 +14,24 @@ public class LikeController {
     private final LikeService likeService;
 
     @PostMapping
-    public ResponseEntity<Void> likeBlog(@PathVariable Long blogId, @AuthenticationPrincipal User user) {
+    public ResponseEntity<Void> likeBlog(@PathVariable Long blogId, @AuthenticationPrincipal AuthenticatedUser user) {
         likeService.likeBlog(blogId, user);
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping
-    public ResponseEntity<Void> unlikeBlog(@PathVariable Long blogId, @AuthenticationPrincipal User user) {
+    public ResponseEntity<Void> unlikeBlog(@PathVariable Long blogId, @AuthenticationPrincipal AuthenticatedUser user) {
         likeService.unlikeBlog(blogId, user);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/count")
-    public ResponseEntity<Long> getLikeCount(@PathVariable Long blogId) {
-        return ResponseEntity.ok(likeService.getLikeCount(blogId));
+    public ResponseEntity<Long> getLikeCount(@PathVariable Long blogId, @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(likeService.getLikeCount(blogId, user));
     }
 
     @GetMapping("/is-liked")
-    public ResponseEntity<Boolean> isBlogLikedByUser(@PathVariable Long blogId, @AuthenticationPrincipal User user) {
+    public ResponseEntity<Boolean> isBlogLikedByUser(@PathVariable Long blogId, @AuthenticationPrincipal AuthenticatedUser user) {
         return ResponseEntity.ok(likeService.isBlogLikedByUser(blogId, user));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.pingpong.pingpongBackend.controller;
+
+import com.pingpong.pingpongBackend.dto.BlogResponse;
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
+import com.pingpong.pingpongBackend.dto.CommentResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
+import com.pingpong.pingpongBackend.service.ReactiveBlogReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// Read-only mirror of the feed, blog, comment and like-count endpoints. Spring MVC
+// completes a returned Mono asynchronously, so no servlet thread waits on the database.
+@RestController
+@RequestMapping("/api/reactive/blogs")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.reactive.enabled", havingValue = "true")
+public class ReactiveReadController {
+    private final ReactiveBlogReader reader;
+
+    @GetMapping("/feed")
+    public Mono<ResponseEntity<CursorPage<BlogSummaryResponse>>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return reader.getFeed(cursor, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<BlogResponse>> getBlogById(@PathVariable Long id) {
+        return reader.getBlog(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{blogId}/comments")
+    public Mono<ResponseEntity<CursorPage<CommentResponse>>> getComments(
+            @PathVariable Long blogId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return reader.getComments(blogId, cursor, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{blogId}/likes/count")
+    public Mono<ResponseEntity<Long>> getLikeCount(@PathVariable Long blogId,
+                                                   @AuthenticationPrincipal AuthenticatedUser user) {
+        return reader.getLikeCount(blogId, user == null ? null : user.id()).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,28 @@
+package com.pingpong.pingpongBackend.controller;
+
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
+import com.pingpong.pingpongBackend.dto.TrendingHashtagResponse;
+import com.pingpong.pingpongBackend.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/trending")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class TrendingController {
+    private final TrendingService trendingService;
+
+    @GetMapping("/hashtags")
+    public ResponseEntity<List<TrendingHashtagResponse>> getTrendingHashtags(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingService.getTrendingHashtags(limit));
+    }
+
+    @GetMapping("/blogs")
+    public ResponseEntity<List<BlogSummaryResponse>> getTrendingBlogs(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingService.getTrendingBlogs(limit));
+    }
+}
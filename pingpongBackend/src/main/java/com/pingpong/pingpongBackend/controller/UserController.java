@@ -1,10 +1,11 @@
 package com.pingpong.pingpongBackend.controller;
 
-import com.pingpong.pingpongBackend.dto.BlogResponse;
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
 import com.pingpong.pingpongBackend.dto.CommentResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
 import com.pingpong.pingpongBackend.dto.UserProfileRequest;
 import com.pingpong.pingpongBackend.entity.User;
-import com.pingpong.pingpongBackend.repository.UserRepository;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
 import com.pingpong.pingpongBackend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,11 +22,10 @@ import com.pingpong.pingpongBackend.dto.PublicUserProfileDTO;
 @CrossOrigin(origins = "http://localhost:3000")
 public class UserController {
     private final UserService userService;
-    private final UserRepository userRepository;
 
     @PutMapping("/me")
     public ResponseEntity<PublicUserProfileDTO> updateProfile(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthenticatedUser user,
             @RequestBody UserProfileRequest request
     ) {
         User updated = userService.updateProfile(user, request);
@@ -38,49 +38,35 @@ public class UserController {
     }
 
     @GetMapping("/me/likes")
-    public ResponseEntity<List<BlogResponse>> getLikedBlogs(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<BlogSummaryResponse>> getLikedBlogs(@AuthenticationPrincipal AuthenticatedUser user) {
         return ResponseEntity.ok(userService.getLikedBlogs(user));
     }
 
     @GetMapping("/me/comments")
-    public ResponseEntity<List<CommentResponse>> getUserComments(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<CommentResponse>> getUserComments(@AuthenticationPrincipal AuthenticatedUser user) {
         return ResponseEntity.ok(userService.getUserComments(user));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<PublicUserProfileDTO>> searchUsers(@RequestParam String q) {
-        List<User> users = userRepository.findByUsernameContainingIgnoreCaseOrFullNameContainingIgnoreCase(q, q);
-        List<PublicUserProfileDTO> dtos = users.stream().map(user -> {
-            PublicUserProfileDTO dto = new PublicUserProfileDTO();
-            dto.setUsername(user.getUsername());
-            dto.setFullName(user.getFullName());
-            dto.setBio(user.getBio());
-            dto.setProfilePicture(user.getProfilePicture());
-            return dto;
-        }).toList();
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<List<PublicUserProfileDTO>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(userService.searchUsers(q, limit));
     }
 
     @GetMapping("/public/{username}")
     public ResponseEntity<PublicUserProfileDTO> getPublicProfile(@PathVariable String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        PublicUserProfileDTO dto = new PublicUserProfileDTO();
-        dto.setUsername(user.getUsername());
-        dto.setFullName(user.getFullName());
-        dto.setBio(user.getBio());
-        dto.setProfilePicture(user.getProfilePicture());
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok(userService.getPublicProfile(username));
     }
 
     @PostMapping("/{username}/follow")
-    public ResponseEntity<Void> followUser(@AuthenticationPrincipal User currentUser, @PathVariable String username) {
+    public ResponseEntity<Void> followUser(@AuthenticationPrincipal AuthenticatedUser currentUser, @PathVariable String username) {
         userService.followUser(currentUser, username);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/{username}/unfollow")
-    public ResponseEntity<Void> unfollowUser(@AuthenticationPrincipal User currentUser, @PathVariable String username) {
+    public ResponseEntity<Void> unfollowUser(@AuthenticationPrincipal AuthenticatedUser currentUser, @PathVariable String username) {
         userService.unfollowUser(currentUser, username);
         return ResponseEntity.ok().build();
     }
@@ -96,17 +82,38 @@ public class UserController {
     }
 
     @GetMapping("/{username}/is-following")
-    public ResponseEntity<Boolean> isFollowing(@AuthenticationPrincipal User currentUser, @PathVariable String username) {
+    public ResponseEntity<Boolean> isFollowing(@AuthenticationPrincipal AuthenticatedUser currentUser, @PathVariable String username) {
         return ResponseEntity.ok(userService.isFollowing(currentUser, username));
     }
 
+    @GetMapping("/{username}/mutual-followers")
+    public ResponseEntity<List<PublicUserProfileDTO>> getMutualFollowers(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @PathVariable String username,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userService.getMutualFollowers(currentUser, username, limit));
+    }
+
+    @GetMapping("/me/suggestions")
+    public ResponseEntity<List<PublicUserProfileDTO>> getSuggestions(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userService.getSuggestions(user, limit));
+    }
+
     @GetMapping("/{username}/followers")
-    public ResponseEntity<List<PublicUserProfileDTO>> getFollowers(@PathVariable String username) {
-        return ResponseEntity.ok(userService.getFollowers(username));
+    public ResponseEntity<CursorPage<PublicUserProfileDTO>> getFollowers(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getFollowers(username, cursor, size));
     }
 
     @GetMapping("/{username}/following")
-    public ResponseEntity<List<PublicUserProfileDTO>> getFollowing(@PathVariable String username) {
-        return ResponseEntity.ok(userService.getFollowing(username));
+    public ResponseEntity<CursorPage<PublicUserProfileDTO>> getFollowing(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getFollowing(username, cursor, size));
     }
 } 
\ No newline at end of file
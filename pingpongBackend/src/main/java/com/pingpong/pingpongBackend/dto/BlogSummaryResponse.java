@@ -0,0 +1,19 @@
+package com.pingpong.pingpongBackend.dto;
+
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+public class BlogSummaryResponse {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String imageUrl;
+    private AuthorDTO author;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private int likeCount;
+    private int commentCount;
+    private Set<String> hashtags;
+}
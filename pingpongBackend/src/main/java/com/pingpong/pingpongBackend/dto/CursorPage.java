@@ -0,0 +1,11 @@
+package com.pingpong.pingpongBackend.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private int size;
+}
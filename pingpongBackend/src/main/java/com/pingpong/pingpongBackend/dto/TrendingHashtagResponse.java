@@ -0,0 +1,12 @@
+package com.pingpong.pingpongBackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TrendingHashtagResponse {
+    private String hashtag;
+    // Approximate uses within the trending window
+    private long count;
+}
@@ -0,0 +1,12 @@
+package com.pingpong.pingpongBackend.dto;
+
+// Immutable cached snapshot of a public profile with its follow counts
+public record UserProfile(
+        Long id,
+        String username,
+        String fullName,
+        String bio,
+        String profilePicture,
+        long followerCount,
+        long followingCount) {
+}
@@ -2,13 +2,17 @@ package com.pingpong.pingpongBackend.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Data
-@Table(name = "blogs")
+@Table(name = "blogs", indexes = {
+    @Index(name = "idx_blogs_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_blogs_author_created_at_id", columnList = "author_id, created_at, id")
+})
 public class Blog {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,14 +24,21 @@ public class Blog {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // Preview of content, computed on write so list views never read the TEXT column
+    @Column(length = 300)
+    private String excerpt;
+
     private String imageUrl;
 
     @ElementCollection
-    @CollectionTable(name = "blog_hashtags", joinColumns = @JoinColumn(name = "blog_id"))
+    @BatchSize(size = 50)
+    @CollectionTable(name = "blog_hashtags", joinColumns = @JoinColumn(name = "blog_id"),
+        indexes = @Index(name = "idx_blog_hashtags_hashtag", columnList = "hashtag"))
     @Column(name = "hashtag")
     private Set<String> hashtags = new HashSet<>();
 
-    @ManyToOne
+    // Lazy so list queries don't issue a select per row; fetch it explicitly where needed
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
@@ -37,6 +48,15 @@ public class Blog {
     @OneToMany(mappedBy = "blog", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Like> likes = new HashSet<>();
 
+    // Denormalized counters, maintained with atomic UPDATEs by LikeService/CommentService
+    // and repaired by BlogCounterReconciliationJob. Never written by entity updates,
+    // so saving a stale Blog cannot overwrite a concurrent increment.
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long likeCount;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long commentCount;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -6,7 +6,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_blog_created_at_id", columnList = "blog_id, created_at, id")
+})
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -15,7 +17,8 @@ public class Comment {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
-    @ManyToOne
+    // Lazy so loading comments doesn't issue a select per author; threads read CommentView instead
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
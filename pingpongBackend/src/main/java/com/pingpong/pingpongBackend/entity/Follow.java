@@ -0,0 +1,34 @@
+package com.pingpong.pingpongBackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One row of the follow graph: follower follows user. The primary key serves
+// "followers of X"; the reverse index serves "who X follows".
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@IdClass(FollowId.class)
+@Table(name = "user_followers", indexes = {
+    @Index(name = "idx_user_followers_follower_user", columnList = "follower_id, user_id")
+})
+public class Follow {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "follower_id")
+    private Long followerId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "follower_id", insertable = false, updatable = false)
+    private User follower;
+}
@@ -0,0 +1,15 @@
+package com.pingpong.pingpongBackend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowId implements Serializable {
+    private Long userId;
+    private Long followerId;
+}
@@ -0,0 +1,30 @@
+package com.pingpong.pingpongBackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+// Persistent copy of a follower's inbox, written on fan-out. Plain id columns
+// (no foreign keys) keep the bulk inserts cheap; stale ids are skipped on read.
+// Unique per (user, blog) so a redelivered fan-out inserts nothing.
+@Entity
+@Data
+@Table(name = "timeline_entries", indexes = {
+    @Index(name = "uk_timeline_user_blog", columnList = "user_id, blog_id", unique = true),
+    @Index(name = "idx_timeline_blog", columnList = "blog_id"),
+    @Index(name = "idx_timeline_created_at", columnList = "created_at")
+})
+public class TimelineEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "blog_id", nullable = false)
+    private Long blogId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
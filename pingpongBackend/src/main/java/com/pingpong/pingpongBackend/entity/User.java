@@ -9,7 +9,6 @@ import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -40,18 +39,9 @@ public class User implements UserDetails {
     private String bio;
     private String profilePicture;
 
-    @ManyToMany
-    @JoinTable(
-        name = "user_followers",
-        joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "follower_id")
-    )
-    @JsonIgnore
-    private Set<User> followers = new HashSet<>();
-
-    @ManyToMany(mappedBy = "followers")
-    @JsonIgnore
-    private Set<User> following = new HashSet<>();
+    // Incremented to revoke every token issued so far
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int tokenVersion;
 
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
     private Set<Blog> blogs = new HashSet<>();
@@ -0,0 +1,15 @@
+package com.pingpong.pingpongBackend.event;
+
+import java.util.UUID;
+
+// Likes and comments: changes what GET /api/blogs/{id} renders but not the text itself.
+// Id and time (epoch millis) as on HashtagsChangedEvent
+public record BlogChangedEvent(UUID eventId, long occurredAt, Long blogId, Engagement engagement) {
+    public enum Engagement {
+        LIKED, UNLIKED, COMMENTED, COMMENT_DELETED
+    }
+
+    public BlogChangedEvent(Long blogId, Engagement engagement) {
+        this(UUID.randomUUID(), System.currentTimeMillis(), blogId, engagement);
+    }
+}
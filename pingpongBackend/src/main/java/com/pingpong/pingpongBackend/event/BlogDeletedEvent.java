@@ -0,0 +1,4 @@
+package com.pingpong.pingpongBackend.event;
+
+public record BlogDeletedEvent(Long blogId, Long authorId) {
+}
@@ -0,0 +1,10 @@
+package com.pingpong.pingpongBackend.event;
+
+import java.util.UUID;
+
+// Id and time (epoch millis) as on HashtagsChangedEvent
+public record BlogPublishedEvent(UUID eventId, long occurredAt, Long blogId, Long authorId) {
+    public BlogPublishedEvent(Long blogId, Long authorId) {
+        this(UUID.randomUUID(), System.currentTimeMillis(), blogId, authorId);
+    }
+}
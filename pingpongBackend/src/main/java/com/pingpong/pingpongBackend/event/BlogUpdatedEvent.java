@@ -0,0 +1,5 @@
+package com.pingpong.pingpongBackend.event;
+
+// The author edited a blog's title, content or image
+public record BlogUpdatedEvent(Long blogId) {
+}
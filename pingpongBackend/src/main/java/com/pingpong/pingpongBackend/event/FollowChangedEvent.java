@@ -0,0 +1,5 @@
+package com.pingpong.pingpongBackend.event;
+
+// followerId started (following = true) or stopped following userId
+public record FollowChangedEvent(Long userId, Long followerId, boolean following) {
+}
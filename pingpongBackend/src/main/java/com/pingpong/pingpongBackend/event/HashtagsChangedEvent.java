@@ -0,0 +1,12 @@
+package com.pingpong.pingpongBackend.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+// Tags a blog gained and lost when it was published, edited or deleted. The id and
+// time (epoch millis) let at-least-once consumers drop redeliveries and count late ones
+public record HashtagsChangedEvent(UUID eventId, long occurredAt, Set<String> added, Set<String> removed) {
+    public HashtagsChangedEvent(Set<String> added, Set<String> removed) {
+        this(UUID.randomUUID(), System.currentTimeMillis(), added, removed);
+    }
+}
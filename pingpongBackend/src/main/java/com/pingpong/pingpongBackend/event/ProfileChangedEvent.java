@@ -0,0 +1,5 @@
+package com.pingpong.pingpongBackend.event;
+
+// Profile edits and follow/unfollow; carries every username whose cached profile is stale
+public record ProfileChangedEvent(String... usernames) {
+}
@@ -0,0 +1,5 @@
+package com.pingpong.pingpongBackend.event;
+
+// A user registered or changed the names they can be searched by
+public record UserDetailsChangedEvent(Long userId, String username, String fullName) {
+}
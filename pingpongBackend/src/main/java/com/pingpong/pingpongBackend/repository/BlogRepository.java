@@ -2,19 +2,128 @@ package com.pingpong.pingpongBackend.repository;
 
 import com.pingpong.pingpongBackend.entity.Blog;
 import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.repository.projection.BlogExportView;
+import com.pingpong.pingpongBackend.repository.projection.BlogHashtag;
+import com.pingpong.pingpongBackend.repository.projection.BlogSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BlogRepository extends JpaRepository<Blog, Long> {
-    Page<Blog> findByAuthor(User author, Pageable pageable);
+    // Shared select list for BlogSummaryView queries; expects Blog b joined to its author a
+    String SUMMARY_COLUMNS = "SELECT b.id AS id, b.title AS title, b.excerpt AS excerpt, b.imageUrl AS imageUrl, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt, b.likeCount AS likeCount, b.commentCount AS commentCount, " +
+            "a.username AS authorUsername, a.fullName AS authorFullName, a.profilePicture AS authorProfilePicture ";
+
+    @EntityGraph(attributePaths = {"author", "hashtags"})
+    Optional<Blog> findDetailedById(Long id);
+
+    @EntityGraph(attributePaths = "author")
     Page<Blog> findByAuthorIn(Iterable<User> authors, Pageable pageable);
-    List<Blog> findByHashtagsIgnoreCase(String hashtag);
 
-    // Custom query to find distinct hashtags by prefix
-    @Query("SELECT DISTINCT LOWER(h) FROM Blog b JOIN b.hashtags h WHERE LOWER(h) LIKE CONCAT(LOWER(:prefix), '%')")
-    java.util.List<String> findDistinctHashtagsByPrefix(String prefix);
-} 
\ No newline at end of file
+    @Query(value = SUMMARY_COLUMNS + "FROM Blog b JOIN b.author a",
+            countQuery = "SELECT COUNT(b) FROM Blog b")
+    Page<BlogSummaryView> findSummaries(Pageable pageable);
+
+    // Keyset (seek) pagination over idx_blogs_created_at_id, newest first
+    @Query(SUMMARY_COLUMNS + "FROM Blog b JOIN b.author a ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummaryView> findFeedFirstPage(Pageable limit);
+
+    @Query(SUMMARY_COLUMNS + "FROM Blog b JOIN b.author a " +
+            "WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummaryView> findFeedPageBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    // Profile listing: keyset over idx_blogs_author_created_at_id
+    @Query(SUMMARY_COLUMNS + "FROM Blog b JOIN b.author a WHERE a = :author ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummaryView> findByAuthor(@Param("author") User author, Pageable limit);
+
+    @Query(SUMMARY_COLUMNS + "FROM Blog b JOIN b.author a WHERE a = :author " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummaryView> findByAuthorBefore(@Param("author") User author, @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Pageable limit);
+
+    // Hashtags are stored lower-cased, so an equality match can use the blog_hashtags index
+    @Query(SUMMARY_COLUMNS + "FROM Blog b JOIN b.author a JOIN b.hashtags h WHERE h = LOWER(:hashtag) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummaryView> findSummariesByHashtag(@Param("hashtag") String hashtag);
+
+    @Query(SUMMARY_COLUMNS + "FROM Blog b JOIN b.author a JOIN b.likes l WHERE l.user = :user ORDER BY l.createdAt DESC")
+    List<BlogSummaryView> findLikedSummaries(@Param("user") User user);
+
+    @Query(SUMMARY_COLUMNS + "FROM Blog b JOIN b.author a WHERE b.id IN :ids")
+    List<BlogSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b.id AS blogId, h AS hashtag FROM Blog b JOIN b.hashtags h WHERE b.id IN :ids")
+    List<BlogHashtag> findHashtagsByBlogIds(@Param("ids") Collection<Long> ids);
+
+    // Forward-only cursor for exports: rows are streamed from the driver in
+    // fetch-size chunks and must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Blog b JOIN FETCH b.author ORDER BY b.id")
+    Stream<Blog> streamAll();
+
+    // Export rows as scalars, hashtags folded in per row (tags are word characters only, so
+    // commas are safe): the whole dump is this one streamed statement, and nothing else runs
+    // on the connection while it is open, which would make the driver buffer the rest.
+    // GROUP_CONCAT is cut at group_concat_max_len; BlogService.exportBlogs raises it first
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.content AS content, b.image_url AS imageUrl, " +
+            "b.created_at AS createdAt, b.updated_at AS updatedAt, b.like_count AS likeCount, " +
+            "b.comment_count AS commentCount, a.username AS authorUsername, a.full_name AS authorFullName, " +
+            "a.profile_picture AS authorProfilePicture, " +
+            "(SELECT GROUP_CONCAT(h.hashtag) FROM blog_hashtags h WHERE h.blog_id = b.id) AS hashtags " +
+            "FROM blogs b JOIN users a ON a.id = b.author_id ORDER BY b.id", nativeQuery = true)
+    Stream<BlogExportView> streamExport();
+
+    @Query("SELECT b.author.id FROM Blog b WHERE b.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+    @Query("SELECT b.id FROM Blog b WHERE b.author.id IN :authorIds AND b.id < :beforeId ORDER BY b.id DESC")
+    List<Long> findIdsByAuthorIdsBefore(@Param("authorIds") Collection<Long> authorIds, @Param("beforeId") Long beforeId, Pageable limit);
+
+    // Atomic in-database counter updates, no read-modify-write on the entity
+    @Transactional
+    @Modifying
+    @Query("UPDATE Blog b SET b.likeCount = b.likeCount + :delta WHERE b.id = :id")
+    int adjustLikeCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Blog b SET b.commentCount = b.commentCount + :delta WHERE b.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM Blog b")
+    long findMaxId();
+
+    // Recomputes the counters of an id range from the likes/comments tables
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE blogs b SET " +
+            "b.like_count = (SELECT COUNT(*) FROM likes l WHERE l.blog_id = b.id), " +
+            "b.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.blog_id = b.id) " +
+            "WHERE b.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
+
+}
@@ -2,11 +2,30 @@ package com.pingpong.pingpongBackend.repository;
 
 import com.pingpong.pingpongBackend.entity.Comment;
 import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.repository.projection.CommentView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByBlogId(Long blogId);
+    String VIEW_COLUMNS = "SELECT c.id AS id, c.content AS content, c.createdAt AS createdAt, " +
+            "c.blog.id AS blogId, a.username AS authorUsername ";
+
     List<Comment> findByAuthor(User user);
     long countByBlog(com.pingpong.pingpongBackend.entity.Blog blog);
-} 
\ No newline at end of file
+
+    // Keyset pagination over idx_comments_blog_created_at_id, oldest first
+    @Query(VIEW_COLUMNS + "FROM Comment c JOIN c.author a WHERE c.blog.id = :blogId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentView> findThreadFirstPage(@Param("blogId") Long blogId, Pageable limit);
+
+    @Query(VIEW_COLUMNS + "FROM Comment c JOIN c.author a WHERE c.blog.id = :blogId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentView> findThreadPageAfter(@Param("blogId") Long blogId, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id, Pageable limit);
+}
@@ -0,0 +1,37 @@
+package com.pingpong.pingpongBackend.repository;
+
+import com.pingpong.pingpongBackend.entity.Follow;
+import com.pingpong.pingpongBackend.entity.FollowId;
+import com.pingpong.pingpongBackend.repository.projection.UserSummaryView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface FollowRepository extends JpaRepository<Follow, FollowId> {
+    boolean existsByUserIdAndFollowerId(Long userId, Long followerId);
+
+    // Idempotent: following someone twice leaves a single row and reports 0
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_followers (user_id, follower_id) VALUES (:userId, :followerId)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("followerId") Long followerId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.userId = :userId AND f.followerId = :followerId")
+    int deleteEdge(@Param("userId") Long userId, @Param("followerId") Long followerId);
+
+    // Keyset pages by user id, walking the primary key and the reverse index respectively
+    @Query("SELECT u.id AS id, u.username AS username, u.fullName AS fullName, u.bio AS bio, u.profilePicture AS profilePicture " +
+            "FROM Follow f JOIN f.follower u WHERE f.userId = :userId AND f.followerId < :beforeId ORDER BY f.followerId DESC")
+    List<UserSummaryView> findFollowers(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable limit);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.fullName AS fullName, u.bio AS bio, u.profilePicture AS profilePicture " +
+            "FROM Follow f JOIN f.user u WHERE f.followerId = :userId AND f.userId < :beforeId ORDER BY f.userId DESC")
+    List<UserSummaryView> findFollowing(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable limit);
+}
@@ -4,12 +4,44 @@ import com.pingpong.pingpongBackend.entity.Blog;
 import com.pingpong.pingpongBackend.entity.Like;
 import com.pingpong.pingpongBackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
     boolean existsByUserAndBlog(User user, Blog blog);
-    void deleteByUserAndBlog(User user, Blog blog);
     long countByBlog(Blog blog);
     List<Like> findByUser(User user);
-} 
\ No newline at end of file
+
+    // Idempotent: uk_likes_user_blog turns a repeated like into a no-op. Reports 0 as well when
+    // the blog does not exist or belongs to the user, so callers only look closer on 0
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, blog_id, created_at) " +
+            "SELECT :userId, b.id, NOW() FROM blogs b WHERE b.id = :blogId AND b.author_id <> :userId", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("blogId") Long blogId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.blog.id = :blogId")
+    int deleteByUserIdAndBlogId(@Param("userId") Long userId, @Param("blogId") Long blogId);
+
+    @Query(value = "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() " +
+            "AND table_name = 'likes' AND index_name = 'uk_likes_user_blog'", nativeQuery = true)
+    long countUniqueIndexColumns();
+
+    // Rows a unique key added to an existing table would reject; the oldest like of each pair is kept
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE l FROM likes l JOIN likes k ON k.user_id = l.user_id AND k.blog_id = l.blog_id AND k.id < l.id",
+            nativeQuery = true)
+    int deleteDuplicates();
+
+    @Transactional
+    @Modifying
+    @Query(value = "ALTER TABLE likes ADD UNIQUE INDEX IF NOT EXISTS uk_likes_user_blog (user_id, blog_id)", nativeQuery = true)
+    void ensureUniqueIndex();
+}
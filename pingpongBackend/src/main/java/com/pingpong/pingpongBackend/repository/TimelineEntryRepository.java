@@ -0,0 +1,52 @@
+package com.pingpong.pingpongBackend.repository;
+
+import com.pingpong.pingpongBackend.entity.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+    @Query("SELECT t.blogId FROM TimelineEntry t WHERE t.userId = :userId AND t.blogId < :beforeId ORDER BY t.blogId DESC")
+    List<Long> findBlogIds(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.blogId = :blogId")
+    int deleteByBlogId(@Param("blogId") Long blogId);
+
+    // Drops everything an author fanned out to a reader, e.g. after an unfollow
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE t FROM timeline_entries t JOIN blogs b ON b.id = t.blog_id " +
+            "WHERE t.user_id = :userId AND b.author_id = :authorId", nativeQuery = true)
+    int deleteByUserIdAndAuthorId(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() " +
+            "AND table_name = 'timeline_entries' AND index_name = 'uk_timeline_user_blog'", nativeQuery = true)
+    long countUniqueIndexColumns();
+
+    // Rows the unique key would reject; the first copy of each entry is kept
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE t FROM timeline_entries t JOIN timeline_entries k " +
+            "ON k.user_id = t.user_id AND k.blog_id = t.blog_id AND k.id < t.id", nativeQuery = true)
+    int deleteDuplicates();
+
+    // Replaces the plain index of the same columns
+    @Transactional
+    @Modifying
+    @Query(value = "ALTER TABLE timeline_entries DROP INDEX IF EXISTS idx_timeline_user_blog, " +
+            "ADD UNIQUE INDEX IF NOT EXISTS uk_timeline_user_blog (user_id, blog_id)", nativeQuery = true)
+    void ensureUniqueIndex();
+}
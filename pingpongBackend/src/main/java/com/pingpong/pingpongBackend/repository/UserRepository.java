@@ -1,7 +1,15 @@
 package com.pingpong.pingpongBackend.repository;
 
 import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.repository.projection.UserProfileView;
+import com.pingpong.pingpongBackend.repository.projection.UserSummaryView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +18,42 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
-    List<User> findByUsernameContainingIgnoreCase(String username);
-    List<User> findByUsernameContainingIgnoreCaseOrFullNameContainingIgnoreCase(String username, String fullName);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.fullName AS fullName, u.bio AS bio, u.profilePicture AS profilePicture " +
+            "FROM User u WHERE u.id IN :ids")
+    List<UserSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
+
+    // Follow graph queries straight on the join table, without loading User collections
+    @Query(value = "SELECT follower_id FROM user_followers WHERE user_id = :userId", nativeQuery = true)
+    List<Long> findFollowerIds(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM user_followers WHERE user_id = :userId", nativeQuery = true)
+    long countFollowers(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM user_followers WHERE follower_id = :userId", nativeQuery = true)
+    long countFollowing(@Param("userId") Long userId);
+
+    @Query(value = "SELECT u.id AS id, u.username AS username, u.full_name AS fullName, u.bio AS bio, " +
+            "u.profile_picture AS profilePicture, " +
+            "(SELECT COUNT(*) FROM user_followers f WHERE f.user_id = u.id) AS followerCount, " +
+            "(SELECT COUNT(*) FROM user_followers f WHERE f.follower_id = u.id) AS followingCount " +
+            "FROM users u WHERE u.username = :username", nativeQuery = true)
+    Optional<UserProfileView> findProfileByUsername(@Param("username") String username);
+
+    @Query(value = "SELECT user_id FROM user_followers GROUP BY user_id HAVING COUNT(*) > :threshold", nativeQuery = true)
+    List<Long> findIdsWithMoreFollowersThan(@Param("threshold") long threshold);
+
+    @Query(value = "SELECT user_id FROM user_followers WHERE follower_id = :followerId AND user_id IN (:userIds)", nativeQuery = true)
+    List<Long> findFollowedAmong(@Param("followerId") Long followerId, @Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
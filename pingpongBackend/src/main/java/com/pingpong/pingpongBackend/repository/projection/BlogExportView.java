@@ -0,0 +1,19 @@
+package com.pingpong.pingpongBackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+// One exported blog with its author's columns; hashtags come folded into a comma-separated string
+public interface BlogExportView {
+    Long getId();
+    String getTitle();
+    String getContent();
+    String getImageUrl();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    long getLikeCount();
+    long getCommentCount();
+    String getAuthorUsername();
+    String getAuthorFullName();
+    String getAuthorProfilePicture();
+    String getHashtags();
+}
@@ -0,0 +1,6 @@
+package com.pingpong.pingpongBackend.repository.projection;
+
+public interface BlogHashtag {
+    Long getBlogId();
+    String getHashtag();
+}
@@ -0,0 +1,18 @@
+package com.pingpong.pingpongBackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+// List-view columns of a blog joined with its author; never selects the content TEXT column
+public interface BlogSummaryView {
+    Long getId();
+    String getTitle();
+    String getExcerpt();
+    String getImageUrl();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    long getLikeCount();
+    long getCommentCount();
+    String getAuthorUsername();
+    String getAuthorFullName();
+    String getAuthorProfilePicture();
+}
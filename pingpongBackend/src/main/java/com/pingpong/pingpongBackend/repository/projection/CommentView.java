@@ -0,0 +1,12 @@
+package com.pingpong.pingpongBackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+// A comment with its author's username, read in the same statement
+public interface CommentView {
+    Long getId();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    Long getBlogId();
+    String getAuthorUsername();
+}
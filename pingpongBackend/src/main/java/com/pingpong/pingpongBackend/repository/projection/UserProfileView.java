@@ -0,0 +1,11 @@
+package com.pingpong.pingpongBackend.repository.projection;
+
+public interface UserProfileView {
+    Long getId();
+    String getUsername();
+    String getFullName();
+    String getBio();
+    String getProfilePicture();
+    long getFollowerCount();
+    long getFollowingCount();
+}
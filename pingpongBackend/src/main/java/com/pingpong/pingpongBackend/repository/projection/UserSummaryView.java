@@ -0,0 +1,9 @@
+package com.pingpong.pingpongBackend.repository.projection;
+
+public interface UserSummaryView {
+    Long getId();
+    String getUsername();
+    String getFullName();
+    String getBio();
+    String getProfilePicture();
+}
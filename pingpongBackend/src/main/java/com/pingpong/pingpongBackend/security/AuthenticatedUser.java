@@ -0,0 +1,23 @@
+package com.pingpong.pingpongBackend.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Set;
+
+/**
+ * Principal of a request authenticated by JWT, built from the verified claims
+ * alone so authenticating a request never touches the users table.
+ */
+public record AuthenticatedUser(Long id, String username, String email, String fullName) {
+    public static final Set<GrantedAuthority> AUTHORITIES = Set.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    static AuthenticatedUser fromClaims(Claims claims) {
+        return new AuthenticatedUser(
+                ((Number) claims.get("id")).longValue(),
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("fullName", String.class));
+    }
+}
@@ -0,0 +1,44 @@
+package com.pingpong.pingpongBackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Current token version per user. Bumping a user's version revokes every token
+ * issued before it; versions are cached briefly so the check costs a query
+ * per user per TTL rather than one per request.
+ */
+@Component
+public class TokenVersionCache {
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionCache(
+            UserRepository userRepository,
+            @Value("${application.security.jwt.version-cache-size:10000}") long maximumSize,
+            @Value("${application.security.jwt.version-cache-ttl:60s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Tokens issued before versioning carry no "ver" claim and count as version 0
+    public boolean isCurrent(Claims claims) {
+        Number tokenVersion = claims.get("ver", Number.class);
+        Long userId = ((Number) claims.get("id")).longValue();
+        Integer current = versions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(null));
+        return current != null && current == (tokenVersion == null ? 0 : tokenVersion.intValue());
+    }
+
+    public void invalidate(Long userId) {
+        versions.invalidate(userId);
+    }
+}
@@ -4,9 +4,12 @@ import com.pingpong.pingpongBackend.dto.auth.AuthResponse;
 import com.pingpong.pingpongBackend.dto.auth.LoginRequest;
 import com.pingpong.pingpongBackend.dto.auth.RegisterRequest;
 import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.event.UserDetailsChangedEvent;
 import com.pingpong.pingpongBackend.repository.UserRepository;
 import com.pingpong.pingpongBackend.security.JwtService;
+import com.pingpong.pingpongBackend.security.TokenVersionCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,6 +22,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenVersionCache tokenVersionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AuthResponse register(RegisterRequest request) {
         var user = User.builder()
@@ -28,6 +33,7 @@ public class AuthService {
                 .fullName(request.getFullName())
                 .build();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserDetailsChangedEvent(user.getId(), user.getUsername(), user.getFullName()));
         var jwtToken = jwtService.generateToken(user);
         var refreshToken = jwtService.generateRefreshToken(user);
         return AuthResponse.builder()
@@ -58,4 +64,10 @@ public class AuthService {
                 .fullName(user.getFullName())
                 .build();
     }
+
+    // Signs the user out everywhere; other instances notice once their cached version expires
+    public void revokeTokens(Long userId) {
+        userRepository.incrementTokenVersion(userId);
+        tokenVersionCache.invalidate(userId);
+    }
 }
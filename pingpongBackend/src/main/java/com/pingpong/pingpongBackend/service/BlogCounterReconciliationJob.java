@@ -0,0 +1,33 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.repository.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repairs drift in the denormalized Blog like/comment counters by recomputing
+ * them from the likes and comments tables, one id range per transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogCounterReconciliationJob {
+    private static final Logger log = LoggerFactory.getLogger(BlogCounterReconciliationJob.class);
+    private static final long CHUNK_SIZE = 1000;
+
+    private final BlogRepository blogRepository;
+
+    @Scheduled(
+            initialDelayString = "${application.blog.counters.reconcile-initial-delay:60000}",
+            fixedDelayString = "${application.blog.counters.reconcile-interval:3600000}")
+    public void reconcile() {
+        long maxId = blogRepository.findMaxId();
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            updated += blogRepository.reconcileCounters(fromId, fromId + CHUNK_SIZE - 1);
+        }
+        log.info("[COUNTERS] reconciled {} blogs up to id {}", updated, maxId);
+    }
+}
@@ -0,0 +1,285 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
+import com.pingpong.pingpongBackend.entity.Blog;
+import com.pingpong.pingpongBackend.event.BlogDeletedEvent;
+import com.pingpong.pingpongBackend.event.BlogPublishedEvent;
+import com.pingpong.pingpongBackend.event.BlogUpdatedEvent;
+import com.pingpong.pingpongBackend.exception.BadRequestException;
+import com.pingpong.pingpongBackend.repository.BlogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherLifetimeManager;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over blog titles and content, backed by an on-disk Lucene
+ * index. Writes only mark a blog id as dirty; a scheduled flush reloads the
+ * dirty blogs in one batch and applies them, so publishing never waits on
+ * the index. Results are ranked by score with the blog id as tie-breaker.
+ *
+ * Scores change as blogs are indexed, so a cursor also carries the version
+ * of the searcher its first page came from, and later pages are read from
+ * that same snapshot. Snapshots are dropped CURSOR_TTL_SECONDS after a newer
+ * one replaced them; a cursor older than that continues on the current index
+ * and may then skip or repeat a hit.
+ */
+@Service
+public class BlogSearchService {
+    private static final Logger log = LoggerFactory.getLogger(BlogSearchService.class);
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final String ID = "id";
+    private static final String ID_SORT = "id_sort";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final double CURSOR_TTL_SECONDS = 600;
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true));
+
+    private final BlogRepository blogRepository;
+    private final BlogService blogService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path indexDir;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    // Blog ids waiting to be re-read from the database and reindexed (or removed if gone)
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private final SearcherLifetimeManager snapshots = new SearcherLifetimeManager();
+
+    public BlogSearchService(
+            BlogRepository blogRepository,
+            BlogService blogService,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.search.index-dir:data/search-index}") String indexDir) {
+        this.blogRepository = blogRepository;
+        this.blogService = blogService;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.indexDir = Path.of(indexDir);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        writer = new IndexWriter(FSDirectory.open(indexDir), new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        flush();
+        snapshots.close();
+        searcherManager.close();
+        writer.close();
+    }
+
+    // A fresh install starts with an empty index; fill it from the table once
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (writer.getDocStats().numDocs == 0 && blogRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogPublished(BlogPublishedEvent event) {
+        dirty.add(event.blogId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogUpdated(BlogUpdatedEvent event) {
+        dirty.add(event.blogId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogDeleted(BlogDeletedEvent event) {
+        dirty.add(event.blogId());
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.flush-interval:1000}")
+    public synchronized void flush() {
+        if (dirty.isEmpty()) return;
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+        try {
+            Map<Long, Blog> blogs = new HashMap<>();
+            blogRepository.findAllById(ids).forEach(blog -> blogs.put(blog.getId(), blog));
+            for (Long id : ids) {
+                Blog blog = blogs.get(id);
+                if (blog == null) {
+                    writer.deleteDocuments(new Term(ID, id.toString()));
+                } else {
+                    writer.updateDocument(new Term(ID, id.toString()), toDocument(blog));
+                }
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            dirty.addAll(ids);
+            log.error("[SEARCH] failed to index {} blogs, will retry", ids.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.snapshot-prune-interval:60000}")
+    public void pruneSnapshots() throws IOException {
+        snapshots.prune(new SearcherLifetimeManager.PruneByAge(CURSOR_TTL_SECONDS));
+    }
+
+    /**
+     * Drops the index and reindexes every blog from the database. Used on an
+     * empty index at startup and by the rebuild-search-index command.
+     */
+    public synchronized long rebuild() {
+        // Called from bootstrap() too, so the transaction is opened here rather than via a proxy
+        Long count = readOnlyTransaction.execute(status -> {
+            long indexed = 0;
+            try (Stream<Blog> blogs = blogRepository.streamAll()) {
+                writer.deleteAll();
+                for (Blog blog : (Iterable<Blog>) blogs::iterator) {
+                    writer.addDocument(toDocument(blog));
+                    entityManager.detach(blog);
+                    indexed++;
+                }
+                writer.commit();
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return indexed;
+        });
+        log.info("[SEARCH] rebuilt index with {} blogs", count);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Ranked search. Accepts the classic Lucene syntax, so "quoted phrases",
+     * AND/OR/NOT and title:word work; title matches weigh twice as much.
+     */
+    public CursorPage<BlogSummaryResponse> search(String q, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Query query = parse(q);
+        SearchCursor after = decodeCursor(cursor);
+        List<Long> ids = new ArrayList<>();
+        FieldDoc last = null;
+        long version;
+        boolean hasMore;
+        try {
+            IndexSearcher searcher = after == null ? null : snapshots.acquire(after.version());
+            if (searcher == null) searcher = searcherManager.acquire();
+            try {
+                version = snapshots.record(searcher);
+                TopFieldDocs top = searcher.searchAfter(after == null ? null : after.last(), query, limit + 1, RANKING, true);
+                hasMore = top.scoreDocs.length > limit;
+                for (int i = 0; i < Math.min(limit, top.scoreDocs.length); i++) {
+                    last = (FieldDoc) top.scoreDocs[i];
+                    ids.add((Long) last.fields[1]);
+                }
+            } finally {
+                snapshots.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<BlogSummaryResponse> blogs = blogService.getSummariesByIds(ids);
+        CursorPage<BlogSummaryResponse> page = new CursorPage<>();
+        page.setContent(blogs);
+        page.setSize(blogs.size());
+        if (hasMore && last != null) {
+            page.setNextCursor(encodeCursor(version, last));
+        }
+        return page;
+    }
+
+    private Query parse(String q) {
+        if (q == null || q.isBlank()) {
+            throw new BadRequestException("Query must not be empty");
+        }
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{TITLE, CONTENT}, analyzer, Map.of(TITLE, 2f, CONTENT, 1f));
+        try {
+            return parser.parse(q);
+        } catch (ParseException e) {
+            throw new BadRequestException("Invalid search query");
+        }
+    }
+
+    private Document toDocument(Blog blog) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, blog.getId().toString(), Field.Store.NO));
+        doc.add(new NumericDocValuesField(ID_SORT, blog.getId()));
+        doc.add(new TextField(TITLE, blog.getTitle() == null ? "" : blog.getTitle(), Field.Store.NO));
+        doc.add(new TextField(CONTENT, blog.getContent() == null ? "" : blog.getContent(), Field.Store.NO));
+        return doc;
+    }
+
+    private record SearchCursor(long version, ScoreDoc last) {
+    }
+
+    // The cursor is the searcher version plus the (score, id) sort key of the last hit
+    private static String encodeCursor(long version, FieldDoc last) {
+        String raw = version + ":" + last.fields[0] + ":" + last.fields[1];
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SearchCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            long version = Long.parseLong(parts[0]);
+            float score = Float.parseFloat(parts[1]);
+            long id = Long.parseLong(parts[2]);
+            return new SearchCursor(version, new FieldDoc(Integer.MAX_VALUE, score, new Object[]{score, id}));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -3,35 +3,80 @@ package com.pingpong.pingpongBackend.service;
 import com.pingpong.pingpongBackend.dto.BlogRequest;
 import com.pingpong.pingpongBackend.dto.BlogResponse;
 import com.pingpong.pingpongBackend.dto.PaginatedResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
 import com.pingpong.pingpongBackend.dto.AuthorDTO;
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
 import com.pingpong.pingpongBackend.entity.Blog;
 import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.event.BlogChangedEvent;
+import com.pingpong.pingpongBackend.event.BlogDeletedEvent;
+import com.pingpong.pingpongBackend.event.BlogPublishedEvent;
+import com.pingpong.pingpongBackend.event.BlogUpdatedEvent;
+import com.pingpong.pingpongBackend.event.HashtagsChangedEvent;
 import com.pingpong.pingpongBackend.exception.ResourceNotFoundException;
 import com.pingpong.pingpongBackend.repository.BlogRepository;
 import com.pingpong.pingpongBackend.repository.UserRepository;
-import com.pingpong.pingpongBackend.repository.LikeRepository;
-import com.pingpong.pingpongBackend.repository.CommentRepository;
+import com.pingpong.pingpongBackend.repository.projection.BlogExportView;
+import com.pingpong.pingpongBackend.repository.projection.BlogHashtag;
+import com.pingpong.pingpongBackend.repository.projection.BlogSummaryView;
+import com.pingpong.pingpongBackend.util.Cursor;
+import com.pingpong.pingpongBackend.util.HashtagTokenizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.AccessDeniedException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class BlogService {
+    private static final Logger log = LoggerFactory.getLogger(BlogService.class);
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int ALL_BLOGS_LIMIT = 1000;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final int EXCERPT_LENGTH = 280;
+    private static final int EXCERPT_BACKFILL_CHUNK = 500;
+    // Rows written before the column existed, plus ones an earlier SQL-only backfill cut mid-word
+    private static final String MISSING_EXCERPTS = "SELECT id, content FROM blogs " +
+            "WHERE id > ? AND content IS NOT NULL " +
+            "AND (excerpt IS NULL OR (CHAR_LENGTH(content) > ? AND excerpt = LEFT(content, ?))) " +
+            "ORDER BY id LIMIT ?";
+    // Set on the column once a backfill has run to the end; every write since goes through toExcerpt
+    private static final String EXCERPTS_BACKFILLED = "excerpts backfilled";
+    private static final int HASHTAG_SUGGESTIONS = 10;
+
     private final BlogRepository blogRepository;
     private final UserRepository userRepository;
-    private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, BlogResponse> blogCache;
+    private final HashtagIndexService hashtagIndex;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public BlogResponse publishBlog(BlogRequest request, String username) {
@@ -41,38 +86,128 @@ public class BlogService {
         Blog blog = new Blog();
         blog.setTitle(request.getTitle());
         blog.setContent(request.getContent());
+        blog.setExcerpt(toExcerpt(request.getContent()));
         blog.setImageUrl(request.getImageUrl());
         blog.setAuthor(author);
-        blog.setHashtags(extractHashtags(request.getContent()));
+        blog.setHashtags(HashtagTokenizer.extract(request.getContent()));
 
         Blog saved = blogRepository.save(blog);
+        eventPublisher.publishEvent(new BlogPublishedEvent(saved.getId(), author.getId()));
+        eventPublisher.publishEvent(new HashtagsChangedEvent(Set.copyOf(saved.getHashtags()), Set.of()));
         return toResponse(saved);
     }
 
-    public List<BlogResponse> getAllBlogs() {
-        return blogRepository.findAll().stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+    /**
+     * Fills excerpts of rows written before the column existed, through
+     * toExcerpt so they match ones written by publish/update. Runs off the
+     * startup thread, in id-ordered chunks, until no row is left, then records
+     * that in the column comment; later starts see it in one metadata lookup
+     * and never scan content again.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillExcerpts() {
+        Integer done = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = 'blogs' AND column_name = 'excerpt' " +
+                "AND column_comment = ?", Integer.class, EXCERPTS_BACKFILLED);
+        if (done != null && done > 0) return;
+        long afterId = 0;
+        int filled = 0;
+        while (true) {
+            List<Map.Entry<Long, String>> rows = jdbcTemplate.query(MISSING_EXCERPTS,
+                    (rs, i) -> Map.entry(rs.getLong(1), rs.getString(2)),
+                    afterId, EXCERPT_LENGTH, EXCERPT_LENGTH, EXCERPT_BACKFILL_CHUNK);
+            if (rows.isEmpty()) break;
+            jdbcTemplate.batchUpdate("UPDATE blogs SET excerpt = ? WHERE id = ?", rows, rows.size(), (ps, row) -> {
+                ps.setString(1, toExcerpt(row.getValue()));
+                ps.setLong(2, row.getKey());
+            });
+            filled += rows.size();
+            afterId = rows.get(rows.size() - 1).getKey();
+        }
+        // Same definition as Blog.excerpt; a comment change alone is metadata only
+        jdbcTemplate.execute("ALTER TABLE blogs MODIFY excerpt VARCHAR(300) NULL COMMENT '" + EXCERPTS_BACKFILLED + "'");
+        log.info("[BLOGS] backfilled {} excerpts", filled);
+    }
+
+    // Capped; full dumps go through exportBlogs
+    public List<BlogSummaryResponse> getAllBlogs() {
+        return toSummaries(blogRepository.findFeedFirstPage(PageRequest.of(0, ALL_BLOGS_LIMIT)));
+    }
+
+    /**
+     * Writes every blog as newline-delimited JSON. Rows come from a database
+     * cursor as plain projections, hashtags included, so memory stays flat
+     * however large the table is and the export costs a single statement;
+     * flushing hands each chunk to the client as it goes.
+     *
+     * The hashtags are folded in with GROUP_CONCAT, which silently cuts its
+     * result at group_concat_max_len (1024 bytes by default). The limit is
+     * raised to the largest value the server can send for this transaction's
+     * connection and put back afterwards, as the connection returns to the pool.
+     */
+    @Transactional(readOnly = true)
+    public void exportBlogs(OutputStream out) throws IOException {
+        jdbcTemplate.execute("SET SESSION group_concat_max_len = @@max_allowed_packet");
+        try (Stream<BlogExportView> rows = blogRepository.streamExport()) {
+            int written = 0;
+            for (BlogExportView row : (Iterable<BlogExportView>) rows::iterator) {
+                out.write(objectMapper.writeValueAsBytes(toResponse(row)));
+                out.write('\n');
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) out.flush();
+            }
+            out.flush();
+        } finally {
+            jdbcTemplate.execute("SET SESSION group_concat_max_len = DEFAULT");
+        }
     }
 
+    // Concurrent misses for the same id share a single load
     public BlogResponse getBlogById(Long id) {
-        Blog blog = blogRepository.findById(id)
+        return blogCache.get(id, this::loadBlog);
+    }
+
+    private BlogResponse loadBlog(Long id) {
+        Blog blog = blogRepository.findDetailedById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
         return toResponse(blog);
     }
 
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictCachedBlog(BlogChangedEvent event) {
+        blogCache.invalidate(event.blogId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictUpdatedBlog(BlogUpdatedEvent event) {
+        blogCache.invalidate(event.blogId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictDeletedBlog(BlogDeletedEvent event) {
+        blogCache.invalidate(event.blogId());
+    }
+
     @Transactional
     public BlogResponse updateBlog(Long id, BlogRequest request, String username) throws AccessDeniedException {
-        Blog blog = blogRepository.findById(id)
+        Blog blog = blogRepository.findDetailedById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
         if (!blog.getAuthor().getUsername().equals(username)) {
             throw new AccessDeniedException("You are not the author of this blog");
         }
         blog.setTitle(request.getTitle());
         blog.setContent(request.getContent());
+        blog.setExcerpt(toExcerpt(request.getContent()));
         blog.setImageUrl(request.getImageUrl());
-        blog.setHashtags(extractHashtags(request.getContent()));
+        Set<String> previousHashtags = new HashSet<>(blog.getHashtags());
+        Set<String> hashtags = HashtagTokenizer.extract(request.getContent());
+        // Changed in place so Hibernate deletes and inserts only the tags that changed,
+        // rather than rewriting every blog_hashtags row of a replaced collection
+        blog.getHashtags().retainAll(hashtags);
+        blog.getHashtags().addAll(hashtags);
         Blog updated = blogRepository.save(blog);
+        eventPublisher.publishEvent(new BlogUpdatedEvent(updated.getId()));
+        publishHashtagChanges(previousHashtags, updated.getHashtags());
         return toResponse(updated);
     }
 
@@ -83,20 +218,41 @@ public class BlogService {
         if (!blog.getAuthor().getUsername().equals(username)) {
             throw new AccessDeniedException("You are not the author of this blog");
         }
+        Set<String> hashtags = Set.copyOf(blog.getHashtags());
         blogRepository.delete(blog);
+        eventPublisher.publishEvent(new BlogDeletedEvent(blog.getId(), blog.getAuthor().getId()));
+        eventPublisher.publishEvent(new HashtagsChangedEvent(Set.of(), hashtags));
     }
 
-    public List<BlogResponse> getBlogsByUser(String username) {
-        return blogRepository.findAll().stream()
-            .filter(blog -> blog.getAuthor().getUsername().equals(username))
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+    private void publishHashtagChanges(Set<String> before, Set<String> after) {
+        Set<String> added = new HashSet<>(after);
+        added.removeAll(before);
+        Set<String> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            eventPublisher.publishEvent(new HashtagsChangedEvent(added, removed));
+        }
+    }
+
+    public CursorPage<BlogSummaryResponse> getBlogsByUser(String username, String cursor, int size) {
+        User author = userRepository.findByUsername(username)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest window = PageRequest.of(0, limit + 1);
+        List<BlogSummaryView> views;
+        if (cursor == null || cursor.isEmpty()) {
+            views = blogRepository.findByAuthor(author, window);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            views = blogRepository.findByAuthorBefore(author, after.createdAt(), after.id(), window);
+        }
+        return toCursorPage(views, limit);
     }
 
-    public PaginatedResponse<BlogResponse> getBlogsPaginated(int page, int size) {
-        Page<Blog> blogPage = blogRepository.findAll(PageRequest.of(page, size));
-        PaginatedResponse<BlogResponse> response = new PaginatedResponse<>();
-        response.setContent(blogPage.getContent().stream().map(this::toResponse).collect(Collectors.toList()));
+    public PaginatedResponse<BlogSummaryResponse> getBlogsPaginated(int page, int size) {
+        Page<BlogSummaryView> blogPage = blogRepository.findSummaries(PageRequest.of(page, size));
+        PaginatedResponse<BlogSummaryResponse> response = new PaginatedResponse<>();
+        response.setContent(toSummaries(blogPage.getContent()));
         response.setTotalPages(blogPage.getTotalPages());
         response.setTotalElements(blogPage.getTotalElements());
         response.setSize(blogPage.getSize());
@@ -104,14 +260,84 @@ public class BlogService {
         return response;
     }
 
-    public List<BlogResponse> getBlogsByHashtag(String hashtag) {
-        List<Blog> blogs = blogRepository.findByHashtagsIgnoreCase(hashtag);
-        return blogs.stream().map(this::toResponse).collect(Collectors.toList());
+    public CursorPage<BlogSummaryResponse> getFeed(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest window = PageRequest.of(0, limit + 1);
+        List<BlogSummaryView> views;
+        if (cursor == null || cursor.isEmpty()) {
+            views = blogRepository.findFeedFirstPage(window);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            views = blogRepository.findFeedPageBefore(after.createdAt(), after.id(), window);
+        }
+        return toCursorPage(views, limit);
+    }
+
+    public List<BlogSummaryResponse> getBlogsByHashtag(String hashtag) {
+        return toSummaries(blogRepository.findSummariesByHashtag(hashtag));
+    }
+
+    public List<BlogSummaryResponse> getLikedBlogs(User user) {
+        return toSummaries(blogRepository.findLikedSummaries(user));
+    }
+
+    // Summaries in the order of the given ids; ids of deleted blogs are skipped
+    public List<BlogSummaryResponse> getSummariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, BlogSummaryResponse> byId = toSummaries(blogRepository.findSummariesByIds(ids)).stream()
+            .collect(Collectors.toMap(BlogSummaryResponse::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
     public List<String> getHashtagSuggestions(String prefix) {
         if (prefix == null || prefix.isEmpty()) return List.of();
-        return blogRepository.findDistinctHashtagsByPrefix(prefix);
+        return hashtagIndex.complete(prefix, HASHTAG_SUGGESTIONS);
+    }
+
+    // Expects up to limit + 1 rows; the extra row only signals that a next page exists
+    private CursorPage<BlogSummaryResponse> toCursorPage(List<BlogSummaryView> views, int limit) {
+        boolean hasMore = views.size() > limit;
+        List<BlogSummaryView> pageViews = hasMore ? views.subList(0, limit) : views;
+        CursorPage<BlogSummaryResponse> page = new CursorPage<>();
+        page.setContent(toSummaries(pageViews));
+        page.setSize(pageViews.size());
+        if (hasMore) {
+            BlogSummaryView last = pageViews.get(pageViews.size() - 1);
+            page.setNextCursor(new Cursor(last.getCreatedAt(), last.getId()).encode());
+        }
+        return page;
+    }
+
+    // Hashtags for the whole list come from a single query
+    private List<BlogSummaryResponse> toSummaries(List<BlogSummaryView> views) {
+        if (views.isEmpty()) return List.of();
+        List<Long> ids = views.stream().map(BlogSummaryView::getId).collect(Collectors.toList());
+        Map<Long, Set<String>> hashtags = new HashMap<>();
+        for (BlogHashtag tag : blogRepository.findHashtagsByBlogIds(ids)) {
+            hashtags.computeIfAbsent(tag.getBlogId(), id -> new HashSet<>()).add(tag.getHashtag());
+        }
+        return views.stream()
+            .map(view -> toSummary(view, hashtags.getOrDefault(view.getId(), Set.of())))
+            .collect(Collectors.toList());
+    }
+
+    private BlogSummaryResponse toSummary(BlogSummaryView view, Set<String> hashtags) {
+        BlogSummaryResponse resp = new BlogSummaryResponse();
+        resp.setId(view.getId());
+        resp.setTitle(view.getTitle());
+        resp.setExcerpt(view.getExcerpt());
+        resp.setImageUrl(view.getImageUrl());
+        AuthorDTO author = new AuthorDTO();
+        author.setUsername(view.getAuthorUsername());
+        author.setFullName(view.getAuthorFullName());
+        author.setProfilePicture(view.getAuthorProfilePicture());
+        resp.setAuthor(author);
+        resp.setCreatedAt(view.getCreatedAt());
+        resp.setUpdatedAt(view.getUpdatedAt());
+        resp.setLikeCount((int) view.getLikeCount());
+        resp.setCommentCount((int) view.getCommentCount());
+        resp.setHashtags(hashtags);
+        return resp;
     }
 
     private BlogResponse toResponse(Blog blog) {
@@ -123,8 +349,30 @@ public class BlogService {
         resp.setAuthor(toAuthorDTO(blog.getAuthor()));
         resp.setCreatedAt(blog.getCreatedAt());
         resp.setUpdatedAt(blog.getUpdatedAt());
-        resp.setLikeCount((int) likeRepository.countByBlog(blog));
-        resp.setCommentCount((int) commentRepository.countByBlog(blog));
+        resp.setLikeCount((int) blog.getLikeCount());
+        resp.setCommentCount((int) blog.getCommentCount());
+        resp.setHashtags(new HashSet<>(blog.getHashtags()));
+        return resp;
+    }
+
+    private BlogResponse toResponse(BlogExportView row) {
+        BlogResponse resp = new BlogResponse();
+        resp.setId(row.getId());
+        resp.setTitle(row.getTitle());
+        resp.setContent(row.getContent());
+        resp.setImageUrl(row.getImageUrl());
+        AuthorDTO author = new AuthorDTO();
+        author.setUsername(row.getAuthorUsername());
+        author.setFullName(row.getAuthorFullName());
+        author.setProfilePicture(row.getAuthorProfilePicture());
+        resp.setAuthor(author);
+        resp.setCreatedAt(row.getCreatedAt());
+        resp.setUpdatedAt(row.getUpdatedAt());
+        resp.setLikeCount((int) row.getLikeCount());
+        resp.setCommentCount((int) row.getCommentCount());
+        resp.setHashtags(row.getHashtags() == null
+            ? new HashSet<>()
+            : new HashSet<>(Arrays.asList(row.getHashtags().split(","))));
         return resp;
     }
 
@@ -136,14 +384,11 @@ public class BlogService {
         return dto;
     }
 
-    private Set<String> extractHashtags(String content) {
-        Set<String> hashtags = new java.util.HashSet<>();
-        if (content == null) return hashtags;
-        Pattern pattern = Pattern.compile("#(\\w+)");
-        Matcher matcher = pattern.matcher(content);
-        while (matcher.find()) {
-            hashtags.add(matcher.group(1).toLowerCase());
-        }
-        return hashtags;
+    // Cuts at a word boundary where possible; stays within the excerpt column
+    static String toExcerpt(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) return content;
+        int cut = content.lastIndexOf(' ', EXCERPT_LENGTH - 1);
+        if (cut < EXCERPT_LENGTH / 2) cut = EXCERPT_LENGTH - 1;
+        return content.substring(0, cut).stripTrailing() + "\u2026";
     }
 } 
\ No newline at end of file
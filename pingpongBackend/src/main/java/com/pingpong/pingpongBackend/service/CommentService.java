@@ -2,13 +2,20 @@ package com.pingpong.pingpongBackend.service;
 
 import com.pingpong.pingpongBackend.dto.CommentRequest;
 import com.pingpong.pingpongBackend.dto.CommentResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
 import com.pingpong.pingpongBackend.entity.Blog;
 import com.pingpong.pingpongBackend.entity.Comment;
-import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.event.BlogChangedEvent;
 import com.pingpong.pingpongBackend.exception.ResourceNotFoundException;
 import com.pingpong.pingpongBackend.repository.BlogRepository;
 import com.pingpong.pingpongBackend.repository.CommentRepository;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+import com.pingpong.pingpongBackend.repository.projection.CommentView;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
+import com.pingpong.pingpongBackend.util.Cursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,42 +25,66 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final CommentRepository commentRepository;
     private final BlogRepository blogRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public CommentResponse addComment(Long blogId, CommentRequest request, User user) {
+    public CommentResponse addComment(Long blogId, CommentRequest request, AuthenticatedUser principal) {
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
         Comment comment = new Comment();
         comment.setContent(request.getContent());
-        comment.setAuthor(user);
+        comment.setAuthor(userRepository.getReferenceById(principal.id()));
         comment.setBlog(blog);
         Comment saved = commentRepository.save(comment);
+        blogRepository.adjustCommentCount(blogId, 1);
+        eventPublisher.publishEvent(new BlogChangedEvent(blogId, BlogChangedEvent.Engagement.COMMENTED));
         return toResponse(saved);
     }
 
-    public List<CommentResponse> getComments(Long blogId) {
-        return commentRepository.findByBlogId(blogId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<CommentResponse> getComments(Long blogId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest window = PageRequest.of(0, limit + 1);
+        List<CommentView> views;
+        if (cursor == null || cursor.isEmpty()) {
+            views = commentRepository.findThreadFirstPage(blogId, window);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            views = commentRepository.findThreadPageAfter(blogId, after.createdAt(), after.id(), window);
+        }
+        boolean hasMore = views.size() > limit;
+        List<CommentView> pageViews = hasMore ? views.subList(0, limit) : views;
+        CursorPage<CommentResponse> page = new CursorPage<>();
+        page.setContent(pageViews.stream().map(this::toResponse).collect(Collectors.toList()));
+        page.setSize(pageViews.size());
+        if (hasMore) {
+            CommentView last = pageViews.get(pageViews.size() - 1);
+            page.setNextCursor(new Cursor(last.getCreatedAt(), last.getId()).encode());
+        }
+        return page;
     }
 
     @Transactional
-    public void deleteComment(Long commentId, User user) {
+    public void deleteComment(Long commentId, AuthenticatedUser principal) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
-        if (!comment.getAuthor().getId().equals(user.getId())) {
+        if (!comment.getAuthor().getId().equals(principal.id())) {
             throw new RuntimeException("You are not the author of this comment");
         }
         commentRepository.delete(comment);
+        blogRepository.adjustCommentCount(comment.getBlog().getId(), -1);
+        eventPublisher.publishEvent(new BlogChangedEvent(comment.getBlog().getId(), BlogChangedEvent.Engagement.COMMENT_DELETED));
     }
 
     @Transactional
-    public CommentResponse updateComment(Long blogId, Long commentId, CommentRequest request, User user) {
+    public CommentResponse updateComment(Long blogId, Long commentId, CommentRequest request, AuthenticatedUser principal) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
-        if (!comment.getAuthor().getId().equals(user.getId())) {
+        if (!comment.getAuthor().getId().equals(principal.id())) {
             throw new RuntimeException("You are not the author of this comment");
         }
         if (!comment.getBlog().getId().equals(blogId)) {
@@ -64,6 +95,16 @@ public class CommentService {
         return toResponse(updated);
     }
 
+    private CommentResponse toResponse(CommentView view) {
+        CommentResponse resp = new CommentResponse();
+        resp.setId(view.getId());
+        resp.setContent(view.getContent());
+        resp.setAuthorUsername(view.getAuthorUsername());
+        resp.setCreatedAt(view.getCreatedAt());
+        resp.setBlogId(view.getBlogId());
+        return resp;
+    }
+
     private CommentResponse toResponse(Comment comment) {
         CommentResponse resp = new CommentResponse();
         resp.setId(comment.getId());
@@ -0,0 +1,82 @@
+package com.pingpong.pingpongBackend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivery guarantees and lag for domain events.
+ *
+ * Every event handed to a transactional listener is first recorded in the
+ * event_publication table inside the publishing transaction (Spring Modulith's
+ * publication registry) and removed once the listener succeeds. Publications
+ * still open after application.events.resubmit-after were lost to a failing
+ * listener or a full executor queue, and are dispatched again here; ones left
+ * by a crash are replayed at startup. Delivery is therefore at least once, and
+ * listeners must tolerate seeing an event twice: timeline fan-out inserts with
+ * INSERT IGNORE against a unique key, hashtag autocomplete recounts the tags
+ * it is told about, and trending drops event ids it has already counted.
+ *
+ * Publications are dispatched and completed one by one. Batching them would
+ * need a listener to acknowledge events it has only queued, so a crash could
+ * lose them; the listeners batch their own writes instead.
+ */
+@Component
+public class EventPublicationMonitor {
+    private static final Logger log = LoggerFactory.getLogger(EventPublicationMonitor.class);
+
+    private final IncompleteEventPublications incompletePublications;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration resubmitAfter;
+
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+    public EventPublicationMonitor(
+            IncompleteEventPublications incompletePublications,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${application.events.resubmit-after:5m}") Duration resubmitAfter) {
+        this.incompletePublications = incompletePublications;
+        this.jdbcTemplate = jdbcTemplate;
+        this.resubmitAfter = resubmitAfter;
+        Gauge.builder("events.publications.outstanding", outstanding, AtomicLong::get)
+                .description("Event publications not yet completed by their listener")
+                .register(meterRegistry);
+        Gauge.builder("events.publications.lag", oldestAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest outstanding event publication")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.events.resubmit-interval:60000}",
+            fixedDelayString = "${application.events.resubmit-interval:60000}")
+    public void resubmitStale() {
+        incompletePublications.resubmitIncompletePublicationsOlderThan(resubmitAfter);
+    }
+
+    // One aggregate over the open rows; completed publications are deleted, so the table stays small
+    @Scheduled(fixedDelayString = "${application.events.metrics-interval:10000}")
+    public void refreshLag() {
+        jdbcTemplate.query("SELECT COUNT(*), MIN(publication_date) FROM event_publication WHERE completion_date IS NULL", rs -> {
+            long count = rs.getLong(1);
+            Timestamp oldest = rs.getTimestamp(2);
+            outstanding.set(count);
+            oldestAgeSeconds.set(oldest == null ? 0 : Math.max(0, (System.currentTimeMillis() - oldest.getTime()) / 1000));
+            if (count > 0) {
+                log.debug("[EVENTS] {} outstanding publications, oldest {}s", count, oldestAgeSeconds.get());
+            }
+        });
+    }
+}
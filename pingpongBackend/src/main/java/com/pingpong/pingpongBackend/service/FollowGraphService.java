@@ -0,0 +1,172 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.event.FollowChangedEvent;
+import com.pingpong.pingpongBackend.util.SortedLongArrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the follow graph as two adjacency maps of sorted primitive
+ * id arrays, roughly 16 bytes per edge plus one map entry per user with edges.
+ * Loaded from user_followers at startup and kept current from follow events.
+ *
+ * Callers must check {@link #isReady()} and fall back to the database until
+ * the initial load has finished. Follow events arriving during the load are
+ * held back and replayed on top of it, since the load replaces whole lists.
+ */
+@Service
+public class FollowGraphService {
+    private static final Logger log = LoggerFactory.getLogger(FollowGraphService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // user id -> ids of the users they follow / of their followers, ascending
+    private final Map<Long, long[]> following = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> followers = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    // Follow changes received while load() runs, null otherwise; guarded by loadLock
+    private final Object loadLock = new Object();
+    private List<FollowChangedEvent> heldBack;
+
+    public FollowGraphService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        synchronized (loadLock) {
+            heldBack = new ArrayList<>();
+        }
+        // Each pass reads rows grouped by the key column, so every list is built in one go
+        long edges = loadAdjacency("SELECT follower_id, user_id FROM user_followers ORDER BY follower_id, user_id", following);
+        loadAdjacency("SELECT user_id, follower_id FROM user_followers ORDER BY user_id, follower_id", followers);
+        // Changes committed while the lists were read may or may not be in them; applying is idempotent
+        int replayed;
+        synchronized (loadLock) {
+            replayed = heldBack.size();
+            heldBack.forEach(this::apply);
+            heldBack = null;
+            ready = true;
+        }
+        log.info("[GRAPH] loaded {} edges for {} users in {} ms, replayed {} changes made meanwhile", edges,
+                following.size(), System.currentTimeMillis() - start, replayed);
+    }
+
+    private long loadAdjacency(String sql, Map<Long, long[]> target) {
+        AdjacencyLoader loader = new AdjacencyLoader(target);
+        jdbcTemplate.query(sql, loader);
+        loader.flush();
+        return loader.edges;
+    }
+
+    // Collects consecutive rows sharing a key column into one sorted array
+    private static class AdjacencyLoader implements RowCallbackHandler {
+        private final Map<Long, long[]> target;
+        private long[] buffer = new long[16];
+        private int size;
+        private long key = -1;
+        private long edges;
+
+        AdjacencyLoader(Map<Long, long[]> target) {
+            this.target = target;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowKey = rs.getLong(1);
+            if (rowKey != key) {
+                flush();
+                key = rowKey;
+            }
+            if (size == buffer.length) buffer = Arrays.copyOf(buffer, size * 2);
+            buffer[size++] = rs.getLong(2);
+            edges++;
+        }
+
+        void flush() {
+            if (size > 0) target.put(key, Arrays.copyOf(buffer, size));
+            size = 0;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        synchronized (loadLock) {
+            if (heldBack != null) {
+                heldBack.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    private void apply(FollowChangedEvent event) {
+        long userId = event.userId();
+        long followerId = event.followerId();
+        if (event.following()) {
+            following.compute(followerId, (id, ids) -> SortedLongArrays.insert(ids, userId));
+            followers.compute(userId, (id, ids) -> SortedLongArrays.insert(ids, followerId));
+        } else {
+            following.computeIfPresent(followerId, (id, ids) -> SortedLongArrays.remove(ids, userId));
+            followers.computeIfPresent(userId, (id, ids) -> SortedLongArrays.remove(ids, followerId));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isFollowing(long followerId, long userId) {
+        return SortedLongArrays.contains(following.get(followerId), userId);
+    }
+
+    public long[] followerIds(long userId) {
+        return followers.getOrDefault(userId, SortedLongArrays.EMPTY);
+    }
+
+    public long[] followingIds(long userId) {
+        return following.getOrDefault(userId, SortedLongArrays.EMPTY);
+    }
+
+    // Followers of userId whom viewerId also follows ("followed by ...")
+    public long[] mutualFollowers(long viewerId, long userId, int limit) {
+        return SortedLongArrays.intersect(following.get(viewerId), followers.get(userId), limit);
+    }
+
+    /**
+     * Two-hop suggestions: users followed by the people userId follows, ranked
+     * by how many of them do, excluding userId and anyone already followed.
+     */
+    public long[] suggestions(long userId, int limit) {
+        long[] direct = followingIds(userId);
+        Map<Long, Integer> scores = new HashMap<>();
+        for (long friend : direct) {
+            for (long candidate : followingIds(friend)) {
+                if (candidate != userId && !SortedLongArrays.contains(direct, candidate)) {
+                    scores.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .mapToLong(Map.Entry::getKey)
+                .toArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.event.HashtagsChangedEvent;
+import com.pingpong.pingpongBackend.util.TopKTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hashtag autocomplete from memory: every tag with the number of blogs using
+ * it, most used completions first. Loaded once at startup; when a blog gains
+ * or loses tags, those tags are recounted from blog_hashtags rather than
+ * adjusted by one, so a redelivered or replayed event cannot make them drift.
+ */
+@Service
+public class HashtagIndexService {
+    private static final Logger log = LoggerFactory.getLogger(HashtagIndexService.class);
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TopKTrie trie = new TopKTrie(MAX_SUGGESTIONS);
+    private final ReentrantLock recount = new ReentrantLock();
+
+    public HashtagIndexService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Recounts wait for the load, so none is applied to the old trie and then lost in the swap
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        recount.lock();
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            jdbcTemplate.query("SELECT LOWER(hashtag), COUNT(*) FROM blog_hashtags GROUP BY LOWER(hashtag)",
+                    rs -> { counts.put(rs.getString(1), rs.getLong(2)); });
+            trie.load(counts);
+            log.info("[HASHTAGS] loaded {} distinct tags", counts.size());
+        } finally {
+            recount.unlock();
+        }
+    }
+
+    // Off the publishing thread; the event is kept in the publication registry until this completes.
+    // Recounts run one at a time so an older count can never overwrite a newer one
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHashtagsChanged(HashtagsChangedEvent event) {
+        Set<String> tags = new HashSet<>(event.added());
+        tags.addAll(event.removed());
+        if (tags.isEmpty()) return;
+        recount.lock();
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            tags.forEach(tag -> counts.put(tag, 0L));
+            // One index range per tag on idx_blog_hashtags_hashtag
+            jdbcTemplate.query("SELECT LOWER(hashtag), COUNT(*) FROM blog_hashtags WHERE hashtag IN (" +
+                            String.join(", ", Collections.nCopies(tags.size(), "?")) + ") GROUP BY LOWER(hashtag)",
+                    rs -> { counts.put(rs.getString(1), rs.getLong(2)); },
+                    tags.toArray());
+            trie.setAll(counts);
+        } finally {
+            recount.unlock();
+        }
+    }
+
+    public List<String> complete(String prefix, int limit) {
+        return trie.topK(prefix.toLowerCase(), Math.min(limit, MAX_SUGGESTIONS)).stream()
+                .map(TopKTrie.Entry::term)
+                .toList();
+    }
+}
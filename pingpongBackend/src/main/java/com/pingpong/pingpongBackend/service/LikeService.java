@@ -1,52 +1,117 @@
 package com.pingpong.pingpongBackend.service;
 
 import com.pingpong.pingpongBackend.entity.Blog;
-import com.pingpong.pingpongBackend.entity.Like;
 import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.event.BlogChangedEvent;
 import com.pingpong.pingpongBackend.exception.ResourceNotFoundException;
 import com.pingpong.pingpongBackend.repository.BlogRepository;
 import com.pingpong.pingpongBackend.repository.LikeRepository;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class LikeService {
+    private static final Logger log = LoggerFactory.getLogger(LikeService.class);
+
     private final LikeRepository likeRepository;
     private final BlogRepository blogRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // Present when application.likes.write-behind.enabled is set
+    private final Optional<LikeWriteBehindBuffer> writeBehind;
+
+    // Databases created before uk_likes_user_blog may hold duplicate likes, which keep
+    // schema update from adding the key; drop them and add it here. A metadata lookup
+    // first, so the self-join only ever runs once. Counters are repaired by
+    // BlogCounterReconciliationJob.
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureUniqueLikes() {
+        if (likeRepository.countUniqueIndexColumns() > 0) {
+            return;
+        }
+        int removed = likeRepository.deleteDuplicates();
+        likeRepository.ensureUniqueIndex();
+        if (removed > 0) {
+            log.info("[LIKES] removed {} duplicate likes", removed);
+        }
+    }
 
     @Transactional
-    public void likeBlog(Long blogId, User user) {
-        Blog blog = blogRepository.findById(blogId)
+    public void likeBlog(Long blogId, AuthenticatedUser principal) {
+        if (writeBehind.isPresent()) {
+            LikeWriteBehindBuffer buffer = writeBehind.get();
+            Long authorId = buffer.authorOf(blogId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
+            if (authorId.equals(principal.id())) {
+                throw new IllegalArgumentException("You cannot like your own post");
+            }
+            buffer.enqueue(principal.id(), blogId, true);
+            return;
+        }
+        if (likeRepository.insertIgnore(principal.id(), blogId) > 0) {
+            blogRepository.adjustLikeCount(blogId, 1);
+            eventPublisher.publishEvent(new BlogChangedEvent(blogId, BlogChangedEvent.Engagement.LIKED));
+            return;
+        }
+        // Nothing inserted: already liked, or one of the cases below
+        Long authorId = blogRepository.findAuthorIdById(blogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
-        if (blog.getAuthor().getId().equals(user.getId())) {
+        if (authorId.equals(principal.id())) {
             throw new IllegalArgumentException("You cannot like your own post");
         }
-        if (!likeRepository.existsByUserAndBlog(user, blog)) {
-            Like like = new Like();
-            like.setUser(user);
-            like.setBlog(blog);
-            likeRepository.save(like);
-        }
     }
 
     @Transactional
-    public void unlikeBlog(Long blogId, User user) {
-        Blog blog = blogRepository.findById(blogId)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
-        likeRepository.deleteByUserAndBlog(user, blog);
+    public void unlikeBlog(Long blogId, AuthenticatedUser principal) {
+        if (writeBehind.isPresent()) {
+            LikeWriteBehindBuffer buffer = writeBehind.get();
+            buffer.authorOf(blogId).orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
+            buffer.enqueue(principal.id(), blogId, false);
+            return;
+        }
+        int removed = likeRepository.deleteByUserIdAndBlogId(principal.id(), blogId);
+        if (removed > 0) {
+            blogRepository.adjustLikeCount(blogId, -removed);
+            eventPublisher.publishEvent(new BlogChangedEvent(blogId, BlogChangedEvent.Engagement.UNLIKED));
+        } else if (!blogRepository.existsById(blogId)) {
+            throw new ResourceNotFoundException("Blog not found");
+        }
     }
 
-    public long getLikeCount(Long blogId) {
+    // The caller's own uncommitted like or unlike is counted, as isBlogLikedByUser reports it
+    public long getLikeCount(Long blogId, AuthenticatedUser principal) {
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
-        return likeRepository.countByBlog(blog);
+        Boolean pending = principal == null ? null
+                : writeBehind.map(buffer -> buffer.pendingLike(principal.id(), blogId)).orElse(null);
+        if (pending == null) {
+            return blog.getLikeCount();
+        }
+        boolean committed = likeRepository.existsByUserAndBlog(userRepository.getReferenceById(principal.id()), blog);
+        if (pending == committed) {
+            return blog.getLikeCount();
+        }
+        return blog.getLikeCount() + (pending ? 1 : -1);
     }
 
-    public boolean isBlogLikedByUser(Long blogId, User user) {
+    public boolean isBlogLikedByUser(Long blogId, AuthenticatedUser principal) {
+        Boolean pending = writeBehind.map(buffer -> buffer.pendingLike(principal.id(), blogId)).orElse(null);
+        if (pending != null) {
+            return pending;
+        }
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
-        return likeRepository.existsByUserAndBlog(user, blog);
+        return likeRepository.existsByUserAndBlog(userRepository.getReferenceById(principal.id()), blog);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pingpong.pingpongBackend.event.BlogChangedEvent;
+import com.pingpong.pingpongBackend.event.BlogDeletedEvent;
+import com.pingpong.pingpongBackend.repository.BlogRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind mode for likes (application.likes.write-behind.enabled).
+ *
+ * Like/unlike calls only record the caller's latest intent per (user, blog);
+ * a like followed by an unlike before the next flush leaves a single "unliked"
+ * intent, so repeated clicks cost one statement at most. A scheduled flush
+ * applies the intents as two JDBC batches (conditional inserts, deletes),
+ * adjusts each touched blog's counter once by its net change and publishes
+ * the usual BlogChangedEvents, all in one transaction.
+ *
+ * Until its intent is committed, the acting user reads it back from the
+ * buffer (see {@link #pendingLike}), in both their like state and the like
+ * count; like counts seen by others lag by up to one flush interval.
+ */
+@Component
+@ConditionalOnProperty(name = "application.likes.write-behind.enabled", havingValue = "true")
+public class LikeWriteBehindBuffer {
+    private static final Logger log = LoggerFactory.getLogger(LikeWriteBehindBuffer.class);
+
+    // Inserts nothing if the like already exists (uk_likes_user_blog) or the blog has been deleted meanwhile
+    private static final String INSERT_LIKE = "INSERT IGNORE INTO likes (user_id, blog_id, created_at) " +
+            "SELECT ?, b.id, ? FROM blogs b WHERE b.id = ?";
+    private static final String DELETE_LIKE = "DELETE FROM likes WHERE user_id = ? AND blog_id = ?";
+    private static final String ADJUST_COUNT = "UPDATE blogs SET like_count = like_count + ? WHERE id = ?";
+    private static final String RECOUNT = "UPDATE blogs SET like_count = " +
+            "(SELECT COUNT(*) FROM likes WHERE blog_id = ?) WHERE id = ?";
+
+    private record LikeKey(long userId, long blogId) {
+    }
+
+    private final BlogRepository blogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+
+    // Latest intent per key: TRUE = liked, FALSE = unliked
+    private final Map<LikeKey, Boolean> pending = new ConcurrentHashMap<>();
+    // Intents taken by the running flush, still visible to readers until it commits
+    private final Map<LikeKey, Boolean> inFlight = new ConcurrentHashMap<>();
+    // Author of each recently liked blog, so validating a like costs no query on a hot post
+    private final Cache<Long, Long> blogAuthors;
+
+    public LikeWriteBehindBuffer(
+            BlogRepository blogRepository,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${application.likes.write-behind.batch-size:1000}") int batchSize,
+            @Value("${application.likes.write-behind.author-cache-size:10000}") long authorCacheSize) {
+        this.blogRepository = blogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.blogAuthors = Caffeine.newBuilder().maximumSize(authorCacheSize).build();
+        Gauge.builder("likes.write_behind.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    // Empty if the blog does not exist
+    public Optional<Long> authorOf(Long blogId) {
+        return Optional.ofNullable(blogAuthors.get(blogId, id -> blogRepository.findAuthorIdById(id).orElse(null)));
+    }
+
+    public void enqueue(long userId, long blogId, boolean liked) {
+        pending.put(new LikeKey(userId, blogId), liked);
+    }
+
+    // The caller's own not yet committed intent, or null if the database is current
+    public Boolean pendingLike(long userId, long blogId) {
+        LikeKey key = new LikeKey(userId, blogId);
+        Boolean intent = pending.get(key);
+        return intent != null ? intent : inFlight.get(key);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogDeleted(BlogDeletedEvent event) {
+        blogAuthors.invalidate(event.blogId());
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+    }
+
+    /**
+     * Applies the intents pending when the run starts, in batches. Intents
+     * recorded meanwhile wait for the next run, so a flush always finishes
+     * however steady the traffic.
+     */
+    @Scheduled(fixedDelayString = "${application.likes.write-behind.flush-interval:200}")
+    public synchronized void flush() {
+        List<LikeKey> snapshot = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            for (LikeKey key : snapshot.subList(from, Math.min(from + batchSize, snapshot.size()))) {
+                // Takes the latest intent; one recorded after this is flushed next run
+                Boolean intent = pending.remove(key);
+                if (intent != null) inFlight.put(key, intent);
+            }
+            try {
+                transaction.executeWithoutResult(status -> apply(inFlight));
+            } catch (RuntimeException e) {
+                // Put the batch back unless a newer intent for the same key arrived meanwhile
+                inFlight.forEach(pending::putIfAbsent);
+                inFlight.clear();
+                log.error("[LIKES] failed to flush {} like changes, will retry", pending.size(), e);
+                return;
+            }
+            inFlight.clear();
+        }
+    }
+
+    private void apply(Map<LikeKey, Boolean> intents) {
+        List<LikeKey> likes = new ArrayList<>();
+        List<LikeKey> unlikes = new ArrayList<>();
+        intents.forEach((key, liked) -> (liked ? likes : unlikes).add(key));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] inserted = jdbcTemplate.batchUpdate(INSERT_LIKE, likes, likes.size(), (ps, key) -> {
+            ps.setLong(1, key.userId());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, key.blogId());
+        });
+        int[][] deleted = jdbcTemplate.batchUpdate(DELETE_LIKE, unlikes, unlikes.size(), (ps, key) -> {
+            ps.setLong(1, key.userId());
+            ps.setLong(2, key.blogId());
+        });
+
+        Map<Long, Long> deltas = new HashMap<>();
+        // Blog to recount, with LIKED if any like for it is among the rows
+        Map<Long, BlogChangedEvent.Engagement> recount = new HashMap<>();
+        List<BlogChangedEvent> events = new ArrayList<>();
+        tally(likes, inserted, 1, BlogChangedEvent.Engagement.LIKED, deltas, recount, events);
+        tally(unlikes, deleted, -1, BlogChangedEvent.Engagement.UNLIKED, deltas, recount, events);
+
+        deltas.keySet().removeAll(recount.keySet());
+        deltas.values().removeIf(delta -> delta == 0);
+        List<Map.Entry<Long, Long>> adjustments = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(ADJUST_COUNT, adjustments, adjustments.size(), (ps, adjustment) -> {
+            ps.setLong(1, adjustment.getValue());
+            ps.setLong(2, adjustment.getKey());
+        });
+        List<Long> recounted = new ArrayList<>(recount.keySet());
+        jdbcTemplate.batchUpdate(RECOUNT, recounted, recounted.size(), (ps, blogId) -> {
+            ps.setLong(1, blogId);
+            ps.setLong(2, blogId);
+        });
+        // One event per recounted blog, as which of its rows took effect is unknown
+        recount.forEach((blogId, engagement) -> events.add(new BlogChangedEvent(blogId, engagement)));
+        events.forEach(eventPublisher::publishEvent);
+        log.debug("[LIKES] flushed {} likes and {} unlikes over {} blogs", likes.size(), unlikes.size(),
+                deltas.size() + recount.size());
+    }
+
+    // Rows the driver could not count (SUCCESS_NO_INFO) send their blog to a full recount
+    private void tally(List<LikeKey> keys, int[][] counts, long sign, BlogChangedEvent.Engagement engagement,
+                       Map<Long, Long> deltas, Map<Long, BlogChangedEvent.Engagement> recount,
+                       List<BlogChangedEvent> events) {
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                long blogId = keys.get(i++).blogId();
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    recount.merge(blogId, engagement,
+                            (held, next) -> held == BlogChangedEvent.Engagement.LIKED ? held : next);
+                } else if (count > 0) {
+                    deltas.merge(blogId, sign * count, Long::sum);
+                    events.add(new BlogChangedEvent(blogId, engagement));
+                }
+            }
+        }
+    }
+}
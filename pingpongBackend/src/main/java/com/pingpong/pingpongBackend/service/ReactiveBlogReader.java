@@ -0,0 +1,250 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pingpong.pingpongBackend.dto.AuthorDTO;
+import com.pingpong.pingpongBackend.dto.BlogResponse;
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
+import com.pingpong.pingpongBackend.dto.CommentResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
+import com.pingpong.pingpongBackend.exception.ResourceNotFoundException;
+import com.pingpong.pingpongBackend.util.Cursor;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Non-blocking reads for the blog feed, blog detail, comment threads and like
+ * counts over R2DBC (application.reactive.enabled). Returns the same DTOs,
+ * cursors and page caps as the JDBC services, and shares the rendered-blog
+ * cache with BlogService.
+ *
+ * The pool is owned here rather than exposed as a ConnectionFactory bean: a
+ * ConnectionFactory bean makes Spring Boot back off the JDBC DataSource that
+ * JPA and every write path still use.
+ */
+@Service
+@ConditionalOnProperty(name = "application.reactive.enabled", havingValue = "true")
+public class ReactiveBlogReader {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final String SUMMARY_COLUMNS = "SELECT b.id, b.title, b.excerpt, b.image_url, b.created_at, " +
+            "b.updated_at, b.like_count, b.comment_count, a.username, a.full_name, a.profile_picture " +
+            "FROM blogs b JOIN users a ON a.id = b.author_id ";
+    private static final String COMMENT_COLUMNS = "SELECT c.id, c.content, c.created_at, c.blog_id, a.username " +
+            "FROM comments c JOIN users a ON a.id = c.author_id ";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient db;
+    private final Cache<Long, BlogResponse> blogCache;
+    private final Optional<LikeWriteBehindBuffer> writeBehind;
+
+    public ReactiveBlogReader(
+            Cache<Long, BlogResponse> blogCache,
+            Optional<LikeWriteBehindBuffer> writeBehind,
+            @Value("${application.reactive.url:r2dbc:mariadb://localhost:3306/auth_db}") String url,
+            @Value("${application.reactive.username:${spring.datasource.username:}}") String username,
+            @Value("${application.reactive.password:${spring.datasource.password:}}") String password,
+            @Value("${application.reactive.pool.initial-size:10}") int initialSize,
+            @Value("${application.reactive.pool.max-size:20}") int maxSize) {
+        this.blogCache = blogCache;
+        this.writeBehind = writeBehind;
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+        this.db = DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    void close() {
+        pool.dispose();
+    }
+
+    public Mono<CursorPage<BlogSummaryResponse>> getFeed(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        DatabaseClient.GenericExecuteSpec query;
+        if (cursor == null || cursor.isEmpty()) {
+            query = db.sql(SUMMARY_COLUMNS + "ORDER BY b.created_at DESC, b.id DESC LIMIT :limit");
+        } else {
+            Cursor before = Cursor.decode(cursor);
+            query = db.sql(SUMMARY_COLUMNS +
+                            "WHERE b.created_at < :createdAt OR (b.created_at = :createdAt AND b.id < :id) " +
+                            "ORDER BY b.created_at DESC, b.id DESC LIMIT :limit")
+                    .bind("createdAt", before.createdAt())
+                    .bind("id", before.id());
+        }
+        return query.bind("limit", limit + 1)
+                .map(this::toSummary)
+                .all()
+                .collectList()
+                .flatMap(this::attachHashtags)
+                .map(summaries -> toCursorPage(summaries, limit,
+                        last -> new Cursor(last.getCreatedAt(), last.getId())));
+    }
+
+    /**
+     * Served from the shared cache when BlogService has rendered it already.
+     * A miss is cached only if the entry is still absent once the read
+     * completes, so it never replaces one loaded by BlogService meanwhile,
+     * which may be newer; the cached entry wins and is returned.
+     */
+    public Mono<BlogResponse> getBlog(Long id) {
+        BlogResponse cached = blogCache.getIfPresent(id);
+        if (cached != null) return Mono.just(cached);
+        return db.sql("SELECT b.id, b.title, b.content, b.image_url, b.created_at, b.updated_at, b.like_count, " +
+                        "b.comment_count, a.username, a.full_name, a.profile_picture " +
+                        "FROM blogs b JOIN users a ON a.id = b.author_id WHERE b.id = :id")
+                .bind("id", id)
+                .map(this::toResponse)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Blog not found")))
+                .flatMap(blog -> hashtagsOf(List.of(id)).map(tags -> {
+                    blog.setHashtags(tags.getOrDefault(id, new HashSet<>()));
+                    BlogResponse present = blogCache.asMap().putIfAbsent(id, blog);
+                    return present != null ? present : blog;
+                }));
+    }
+
+    public Mono<CursorPage<CommentResponse>> getComments(Long blogId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        DatabaseClient.GenericExecuteSpec query;
+        if (cursor == null || cursor.isEmpty()) {
+            query = db.sql(COMMENT_COLUMNS + "WHERE c.blog_id = :blogId " +
+                    "ORDER BY c.created_at ASC, c.id ASC LIMIT :limit");
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            query = db.sql(COMMENT_COLUMNS + "WHERE c.blog_id = :blogId " +
+                            "AND (c.created_at > :createdAt OR (c.created_at = :createdAt AND c.id > :id)) " +
+                            "ORDER BY c.created_at ASC, c.id ASC LIMIT :limit")
+                    .bind("createdAt", after.createdAt())
+                    .bind("id", after.id());
+        }
+        return query.bind("blogId", blogId)
+                .bind("limit", limit + 1)
+                .map(this::toComment)
+                .all()
+                .collectList()
+                .map(comments -> toCursorPage(comments, limit,
+                        last -> new Cursor(last.getCreatedAt(), last.getId())));
+    }
+
+    // Counts the caller's own uncommitted like or unlike, as LikeService does
+    public Mono<Long> getLikeCount(Long blogId, Long userId) {
+        Boolean pending = userId == null ? null
+                : writeBehind.map(buffer -> buffer.pendingLike(userId, blogId)).orElse(null);
+        Mono<Long> count;
+        if (pending == null) {
+            count = db.sql("SELECT like_count FROM blogs WHERE id = :id")
+                    .bind("id", blogId)
+                    .map(row -> row.get("like_count", Long.class))
+                    .one();
+        } else {
+            count = db.sql("SELECT b.like_count, EXISTS (SELECT 1 FROM likes l " +
+                            "WHERE l.blog_id = b.id AND l.user_id = :userId) AS liked FROM blogs b WHERE b.id = :id")
+                    .bind("id", blogId)
+                    .bind("userId", userId)
+                    .map(row -> {
+                        long likes = row.get("like_count", Long.class);
+                        boolean committed = row.get("liked", Long.class) != 0;
+                        return pending == committed ? likes : likes + (pending ? 1 : -1);
+                    })
+                    .one();
+        }
+        return count.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Blog not found")));
+    }
+
+    // Hashtags for the whole page come from a single query
+    private Mono<List<BlogSummaryResponse>> attachHashtags(List<BlogSummaryResponse> summaries) {
+        if (summaries.isEmpty()) return Mono.just(summaries);
+        return hashtagsOf(summaries.stream().map(BlogSummaryResponse::getId).toList()).map(tags -> {
+            summaries.forEach(summary -> summary.setHashtags(tags.getOrDefault(summary.getId(), Set.of())));
+            return summaries;
+        });
+    }
+
+    private Mono<Map<Long, Set<String>>> hashtagsOf(List<Long> blogIds) {
+        return db.sql("SELECT blog_id, hashtag FROM blog_hashtags WHERE blog_id IN (:ids)")
+                .bind("ids", blogIds)
+                .map(row -> Map.entry(row.get("blog_id", Long.class), row.get("hashtag", String.class)))
+                .all()
+                .collect(HashMap::new, (tags, tag) -> tags.computeIfAbsent(tag.getKey(), k -> new HashSet<>()).add(tag.getValue()));
+    }
+
+    private <T> CursorPage<T> toCursorPage(List<T> rows, int limit, Function<T, Cursor> cursorOf) {
+        boolean hasMore = rows.size() > limit;
+        List<T> content = hasMore ? rows.subList(0, limit) : rows;
+        CursorPage<T> page = new CursorPage<>();
+        page.setContent(content);
+        page.setSize(content.size());
+        if (hasMore) {
+            page.setNextCursor(cursorOf.apply(content.get(content.size() - 1)).encode());
+        }
+        return page;
+    }
+
+    private BlogSummaryResponse toSummary(Readable row) {
+        BlogSummaryResponse resp = new BlogSummaryResponse();
+        resp.setId(row.get("id", Long.class));
+        resp.setTitle(row.get("title", String.class));
+        resp.setExcerpt(row.get("excerpt", String.class));
+        resp.setImageUrl(row.get("image_url", String.class));
+        resp.setAuthor(toAuthor(row));
+        resp.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        resp.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        resp.setLikeCount(row.get("like_count", Long.class).intValue());
+        resp.setCommentCount(row.get("comment_count", Long.class).intValue());
+        return resp;
+    }
+
+    private BlogResponse toResponse(Readable row) {
+        BlogResponse resp = new BlogResponse();
+        resp.setId(row.get("id", Long.class));
+        resp.setTitle(row.get("title", String.class));
+        resp.setContent(row.get("content", String.class));
+        resp.setImageUrl(row.get("image_url", String.class));
+        resp.setAuthor(toAuthor(row));
+        resp.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        resp.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        resp.setLikeCount(row.get("like_count", Long.class).intValue());
+        resp.setCommentCount(row.get("comment_count", Long.class).intValue());
+        return resp;
+    }
+
+    private AuthorDTO toAuthor(Readable row) {
+        AuthorDTO author = new AuthorDTO();
+        author.setUsername(row.get("username", String.class));
+        author.setFullName(row.get("full_name", String.class));
+        author.setProfilePicture(row.get("profile_picture", String.class));
+        return author;
+    }
+
+    private CommentResponse toComment(Readable row) {
+        CommentResponse resp = new CommentResponse();
+        resp.setId(row.get("id", Long.class));
+        resp.setContent(row.get("content", String.class));
+        resp.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        resp.setBlogId(row.get("blog_id", Long.class));
+        resp.setAuthorUsername(row.get("username", String.class));
+        return resp;
+    }
+}
@@ -0,0 +1,27 @@
+package com.pingpong.pingpongBackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Offline rebuild: starting the app with --rebuild-search-index reindexes
+ * every blog and exits. PingpongBackendApplication starts such a run without
+ * a web server, so the node never takes traffic while the index is rebuilt.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexRebuildRunner implements ApplicationRunner {
+    private final BlogSearchService blogSearchService;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("rebuild-search-index")) return;
+        blogSearchService.rebuild();
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
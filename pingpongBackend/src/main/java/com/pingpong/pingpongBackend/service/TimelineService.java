@@ -0,0 +1,341 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
+import com.pingpong.pingpongBackend.event.BlogDeletedEvent;
+import com.pingpong.pingpongBackend.event.BlogPublishedEvent;
+import com.pingpong.pingpongBackend.event.FollowChangedEvent;
+import com.pingpong.pingpongBackend.exception.BadRequestException;
+import com.pingpong.pingpongBackend.repository.BlogRepository;
+import com.pingpong.pingpongBackend.repository.TimelineEntryRepository;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+import com.pingpong.pingpongBackend.util.LongRingBuffer;
+import com.pingpong.pingpongBackend.util.ParallelLookups;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Home timeline ("following" feed).
+ *
+ * Publishing fans the blog id out to every follower's inbox (fan-out-on-write):
+ * a row per follower in timeline_entries, plus the in-memory ring buffer of
+ * followers who have read their feed recently. Authors above the celebrity
+ * threshold are skipped on write and their posts are pulled at read time
+ * instead (fan-out-on-read), so one post never costs millions of inserts.
+ * When such an author's next post is fanned out again, the posts they made
+ * meanwhile are pushed too before the pull stops.
+ *
+ * Blog ids are increasing, so inboxes are ordered and paged by blog id.
+ */
+@Service
+public class TimelineService {
+    private static final Logger log = LoggerFactory.getLogger(TimelineService.class);
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int WARM_LOCK_STRIPES = 64;
+
+    private final BlogRepository blogRepository;
+    private final UserRepository userRepository;
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final BlogService blogService;
+    private final FollowGraphService followGraph;
+    private final JdbcTemplate jdbcTemplate;
+    private final ParallelLookups parallel;
+
+    private final int inboxCapacity;
+    private final long celebrityThreshold;
+    private final int retentionDays;
+
+    // Authors whose posts are pulled at read time instead of pushed
+    private final Set<Long> celebrityIds = ConcurrentHashMap.newKeySet();
+    // Hot inboxes of recently active readers, least recently used evicted first
+    private final Map<Long, LongRingBuffer> inboxes;
+    // Fan-out received while an inbox is being loaded from the table, merged in once it is cached
+    private final Map<Long, LongRingBuffer> warming = new ConcurrentHashMap<>();
+    // Serialises loads of the same inbox without a lock per user; not monitors, so virtual threads do not pin
+    private final ReentrantLock[] warmLocks = new ReentrantLock[WARM_LOCK_STRIPES];
+
+    public TimelineService(
+            BlogRepository blogRepository,
+            UserRepository userRepository,
+            TimelineEntryRepository timelineEntryRepository,
+            BlogService blogService,
+            FollowGraphService followGraph,
+            JdbcTemplate jdbcTemplate,
+            ParallelLookups parallel,
+            @Value("${application.timeline.inbox-capacity:200}") int inboxCapacity,
+            @Value("${application.timeline.max-cached-inboxes:100000}") int maxCachedInboxes,
+            @Value("${application.timeline.celebrity-threshold:10000}") long celebrityThreshold,
+            @Value("${application.timeline.retention-days:30}") int retentionDays) {
+        this.blogRepository = blogRepository;
+        this.userRepository = userRepository;
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.blogService = blogService;
+        this.followGraph = followGraph;
+        this.jdbcTemplate = jdbcTemplate;
+        this.parallel = parallel;
+        this.inboxCapacity = inboxCapacity;
+        this.celebrityThreshold = celebrityThreshold;
+        this.retentionDays = retentionDays;
+        this.inboxes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LongRingBuffer> eldest) {
+                return size() > maxCachedInboxes;
+            }
+        });
+        for (int i = 0; i < warmLocks.length; i++) warmLocks[i] = new ReentrantLock();
+    }
+
+    // Tables created before uk_timeline_user_blog may hold entries fanned out twice, which keep
+    // schema update from adding the key; same one-off cleanup as LikeService.ensureUniqueLikes
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureUniqueEntries() {
+        if (timelineEntryRepository.countUniqueIndexColumns() > 0) return;
+        int removed = timelineEntryRepository.deleteDuplicates();
+        timelineEntryRepository.ensureUniqueIndex();
+        log.info("[TIMELINE] removed {} duplicate entries and added uk_timeline_user_blog", removed);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCelebrities() {
+        celebrityIds.addAll(userRepository.findIdsWithMoreFollowersThan(celebrityThreshold));
+        log.info("[TIMELINE] {} authors above the fan-out threshold of {}", celebrityIds.size(), celebrityThreshold);
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onBlogPublished(BlogPublishedEvent event) {
+        long followerCount = followGraph.isReady()
+                ? followGraph.followerIds(event.authorId()).length
+                : userRepository.countFollowers(event.authorId());
+        if (followerCount > celebrityThreshold) {
+            celebrityIds.add(event.authorId());
+            return;
+        }
+        List<Long> followerIds = followGraph.isReady()
+                ? Arrays.stream(followGraph.followerIds(event.authorId())).boxed().toList()
+                : userRepository.findFollowerIds(event.authorId());
+        insertEntries(followerIds, List.of(Map.entry(event.blogId(), Timestamp.valueOf(LocalDateTime.now()))));
+        for (Long followerId : followerIds) {
+            // Check the loading inbox first: by the time it is gone the cached one is in place (see warmInbox)
+            LongRingBuffer loading = warming.get(followerId);
+            if (loading != null) loading.addIfAbsent(event.blogId());
+            LongRingBuffer inbox = inboxes.get(followerId);
+            if (inbox != null) inbox.addIfAbsent(event.blogId());
+        }
+        // Stays on the pull path until its earlier posts are in the inboxes, so they never drop out of a feed
+        backfillPulledPosts(event.authorId(), event.blogId(), followerIds);
+        celebrityIds.remove(event.authorId());
+    }
+
+    /**
+     * Pushes the author's posts from within the retention window that were
+     * never fanned out, which are the ones posted while they were above the
+     * celebrity threshold and served by the pull path. Found from the table
+     * rather than from celebrityIds, so a demotion noticed after a restart is
+     * caught too. Followers' cached inboxes are dropped and reloaded on next
+     * read, since the ring keeps ids in arrival order.
+     */
+    private void backfillPulledPosts(long authorId, long beforeBlogId, List<Long> followerIds) {
+        if (followerIds.isEmpty()) return;
+        List<Map.Entry<Long, Timestamp>> missed = jdbcTemplate.query(
+                "SELECT b.id, b.created_at FROM blogs b WHERE b.author_id = ? AND b.created_at >= ? AND b.id < ? " +
+                        "AND NOT EXISTS (SELECT 1 FROM timeline_entries t WHERE t.blog_id = b.id) " +
+                        "ORDER BY b.id DESC LIMIT ?",
+                (rs, row) -> Map.entry(rs.getLong(1), rs.getTimestamp(2)),
+                authorId, Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)), beforeBlogId, inboxCapacity);
+        if (missed.isEmpty()) return;
+        insertEntries(followerIds, missed);
+        for (Long followerId : followerIds) {
+            ReentrantLock lock = warmLock(followerId);
+            lock.lock();
+            try {
+                inboxes.remove(followerId);
+            } finally {
+                lock.unlock();
+            }
+        }
+        log.info("[TIMELINE] pushed {} pulled posts of author {} to {} followers", missed.size(), authorId,
+                followerIds.size());
+    }
+
+    // Rows keep the blog's own time, so retention cleanup treats backfilled posts like the others
+    private void insertEntries(List<Long> followerIds, List<Map.Entry<Long, Timestamp>> blogs) {
+        for (Map.Entry<Long, Timestamp> blog : blogs) {
+            for (int from = 0; from < followerIds.size(); from += INSERT_BATCH_SIZE) {
+                List<Long> batch = followerIds.subList(from, Math.min(from + INSERT_BATCH_SIZE, followerIds.size()));
+                // Events arrive at least once; a repeated fan-out leaves the existing rows alone
+                jdbcTemplate.batchUpdate(
+                        "INSERT IGNORE INTO timeline_entries (user_id, blog_id, created_at) VALUES (?, ?, ?)",
+                        batch, batch.size(), (ps, followerId) -> {
+                            ps.setLong(1, followerId);
+                            ps.setLong(2, blog.getKey());
+                            ps.setTimestamp(3, blog.getValue());
+                        });
+            }
+        }
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onBlogDeleted(BlogDeletedEvent event) {
+        timelineEntryRepository.deleteByBlogId(event.blogId());
+        // Only the copy of the references is taken under the map lock, so feed reads are not held up
+        List<LongRingBuffer> cached;
+        synchronized (inboxes) {
+            cached = new ArrayList<>(inboxes.values());
+        }
+        for (LongRingBuffer inbox : cached) inbox.remove(event.blogId());
+    }
+
+    // An unfollow takes the author's posts out of the reader's inbox; the cached copy is reloaded on next read
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        if (event.following()) return;
+        timelineEntryRepository.deleteByUserIdAndAuthorId(event.followerId(), event.userId());
+        ReentrantLock lock = warmLock(event.followerId());
+        lock.lock();
+        try {
+            inboxes.remove(event.followerId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${application.timeline.cleanup-cron:0 30 3 * * *}")
+    public void deleteExpiredEntries() {
+        int deleted = timelineEntryRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        log.info("[TIMELINE] removed {} entries older than {} days", deleted, retentionDays);
+    }
+
+    public CursorPage<BlogSummaryResponse> getTimeline(Long userId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long beforeId = parseCursor(cursor);
+
+        // The pushed inbox and the celebrity pull are independent; run them side by side
+        ParallelLookups.Both<long[], long[]> sources = parallel.both(
+                () -> readInbox(userId, beforeId, limit + 1),
+                () -> readCelebrityPosts(userId, beforeId, limit + 1));
+        long[] ids = mergeDescending(sources.first(), sources.second(), limit + 1);
+
+        boolean hasMore = ids.length > limit;
+        List<Long> pageIds = Arrays.stream(ids).limit(limit).boxed().collect(Collectors.toList());
+        // Deleted blogs may still be referenced by an inbox until cleanup catches up; they are skipped
+        List<BlogSummaryResponse> blogs = blogService.getSummariesByIds(pageIds);
+
+        CursorPage<BlogSummaryResponse> page = new CursorPage<>();
+        page.setContent(blogs);
+        page.setSize(blogs.size());
+        if (hasMore) {
+            page.setNextCursor(String.valueOf(pageIds.get(pageIds.size() - 1)));
+        }
+        return page;
+    }
+
+    private long[] readInbox(Long userId, long beforeId, int limit) {
+        LongRingBuffer inbox = inboxes.get(userId);
+        if (inbox == null) {
+            inbox = warmInbox(userId);
+        }
+        long[] ids = inbox.largestBelow(beforeId, limit);
+        // A buffer below capacity holds the whole inbox; otherwise older entries live only in the table
+        if (ids.length < limit && inbox.size() == inbox.capacity()) {
+            long olderThan = ids.length == 0 ? beforeId : ids[ids.length - 1];
+            List<Long> older = timelineEntryRepository.findBlogIds(userId, Math.min(beforeId, olderThan),
+                    PageRequest.of(0, limit - ids.length));
+            long[] combined = Arrays.copyOf(ids, ids.length + older.size());
+            for (int i = 0; i < older.size(); i++) combined[ids.length + i] = older.get(i);
+            return combined;
+        }
+        return ids;
+    }
+
+    /**
+     * Loads an inbox from the table and caches it. Fan-out that lands while the
+     * query runs is collected in {@link #warming} and merged in after the buffer
+     * is cached; fan-out that checked before the load started had already written
+     * its row, so the query sees it.
+     */
+    private LongRingBuffer warmInbox(Long userId) {
+        ReentrantLock lock = warmLock(userId);
+        lock.lock();
+        try {
+            LongRingBuffer cached = inboxes.get(userId);
+            if (cached != null) return cached;
+            LongRingBuffer concurrent = new LongRingBuffer(inboxCapacity);
+            warming.put(userId, concurrent);
+            try {
+                List<Long> recent = timelineEntryRepository.findBlogIds(userId, Long.MAX_VALUE,
+                        PageRequest.of(0, inboxCapacity));
+                LongRingBuffer inbox = new LongRingBuffer(inboxCapacity);
+                for (int i = recent.size() - 1; i >= 0; i--) inbox.add(recent.get(i));
+                inboxes.put(userId, inbox);
+                long[] arrived = concurrent.largestBelow(Long.MAX_VALUE, inboxCapacity);
+                for (int i = arrived.length - 1; i >= 0; i--) inbox.addIfAbsent(arrived[i]);
+                return inbox;
+            } finally {
+                warming.remove(userId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock warmLock(long userId) {
+        return warmLocks[(int) Math.floorMod(userId, (long) warmLocks.length)];
+    }
+
+    private long[] readCelebrityPosts(Long userId, long beforeId, int limit) {
+        if (celebrityIds.isEmpty()) return new long[0];
+        List<Long> followed = followGraph.isReady()
+                ? celebrityIds.stream().filter(id -> followGraph.isFollowing(userId, id)).toList()
+                : userRepository.findFollowedAmong(userId, new ArrayList<>(celebrityIds));
+        if (followed.isEmpty()) return new long[0];
+        return blogRepository.findIdsByAuthorIdsBefore(followed, beforeId, PageRequest.of(0, limit)).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    // Both inputs are sorted descending; duplicates are dropped
+    private long[] mergeDescending(long[] a, long[] b, int limit) {
+        long[] merged = new long[Math.min(limit, a.length + b.length)];
+        int i = 0, j = 0, n = 0;
+        while (n < merged.length && (i < a.length || j < b.length)) {
+            long next = (j >= b.length || (i < a.length && a[i] >= b[j])) ? a[i++] : b[j++];
+            if (n == 0 || merged[n - 1] != next) merged[n++] = next;
+        }
+        return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+
+    private long parseCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return Long.MAX_VALUE;
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
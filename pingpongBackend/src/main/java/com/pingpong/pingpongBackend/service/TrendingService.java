@@ -0,0 +1,110 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
+import com.pingpong.pingpongBackend.dto.TrendingHashtagResponse;
+import com.pingpong.pingpongBackend.event.BlogChangedEvent;
+import com.pingpong.pingpongBackend.event.BlogPublishedEvent;
+import com.pingpong.pingpongBackend.event.HashtagsChangedEvent;
+import com.pingpong.pingpongBackend.util.SlidingWindowTopK;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Trending hashtags and blogs over a sliding window, counted from events as
+ * they happen rather than queried from likes/blog_hashtags. Counts are
+ * approximate (count-min sketches) and memory is fixed by configuration.
+ * Removals (unlikes, deleted comments) are not subtracted.
+ *
+ * Events are delivered at least once, so ids seen within the window are
+ * remembered and redeliveries dropped. Each event counts at the time it
+ * happened, so a replay after a restart lands in the right bucket, or
+ * nowhere once it has left the window.
+ */
+@Service
+public class TrendingService {
+    private static final int MAX_RESULTS = 50;
+    private static final long PUBLISH_WEIGHT = 1;
+    private static final long LIKE_WEIGHT = 1;
+    private static final long COMMENT_WEIGHT = 2;
+
+    private final BlogService blogService;
+    private final SlidingWindowTopK<String> hashtags;
+    private final SlidingWindowTopK<Long> blogs;
+    private final Cache<UUID, Boolean> seen;
+
+    public TrendingService(
+            BlogService blogService,
+            @Value("${application.trending.window:1h}") Duration window,
+            @Value("${application.trending.buckets:12}") int buckets,
+            @Value("${application.trending.sketch-width:2048}") int sketchWidth,
+            @Value("${application.trending.sketch-depth:4}") int sketchDepth,
+            @Value("${application.trending.candidates-per-bucket:200}") int candidates,
+            @Value("${application.trending.seen-events:200000}") long seenEvents) {
+        this.blogService = blogService;
+        this.seen = Caffeine.newBuilder().expireAfterWrite(window).maximumSize(seenEvents).build();
+        this.hashtags = new SlidingWindowTopK<>(window.toMillis(), buckets, sketchWidth, sketchDepth, candidates);
+        this.blogs = new SlidingWindowTopK<>(window.toMillis(), buckets, sketchWidth, sketchDepth, candidates);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHashtagsChanged(HashtagsChangedEvent event) {
+        if (redelivered(event.eventId())) return;
+        long at = timeOf(event.occurredAt());
+        event.added().forEach(tag -> hashtags.add(tag, PUBLISH_WEIGHT, at));
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogPublished(BlogPublishedEvent event) {
+        if (redelivered(event.eventId())) return;
+        blogs.add(event.blogId(), PUBLISH_WEIGHT, timeOf(event.occurredAt()));
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        long weight = switch (event.engagement()) {
+            case LIKED -> LIKE_WEIGHT;
+            case COMMENTED -> COMMENT_WEIGHT;
+            default -> 0;
+        };
+        if (weight == 0 || redelivered(event.eventId())) return;
+        blogs.add(event.blogId(), weight, timeOf(event.occurredAt()));
+    }
+
+    // Publications recorded before events carried an id and time have neither
+    private boolean redelivered(UUID eventId) {
+        return eventId != null && seen.asMap().putIfAbsent(eventId, Boolean.TRUE) != null;
+    }
+
+    private static long timeOf(long occurredAt) {
+        return occurredAt > 0 ? occurredAt : System.currentTimeMillis();
+    }
+
+    public List<TrendingHashtagResponse> getTrendingHashtags(int limit) {
+        return hashtags.top(clamp(limit), System.currentTimeMillis()).stream()
+                .map(entry -> new TrendingHashtagResponse(entry.key(), entry.count()))
+                .toList();
+    }
+
+    // Deleted blogs drop out here, as getSummariesByIds skips missing ids
+    public List<BlogSummaryResponse> getTrendingBlogs(int limit) {
+        List<Long> ids = blogs.top(clamp(limit), System.currentTimeMillis()).stream()
+                .map(SlidingWindowTopK.Entry::key)
+                .toList();
+        return blogService.getSummariesByIds(ids);
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RESULTS));
+    }
+}
@@ -0,0 +1,77 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.event.UserDetailsChangedEvent;
+import com.pingpong.pingpongBackend.util.TrigramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory trigram index over username and full name, loaded at startup
+ * and kept current from registration and profile edits. Edits arriving while
+ * the load runs are held back and replayed on top of it, since the load
+ * replaces the whole index.
+ */
+@Service
+public class UserSearchService {
+    private static final Logger log = LoggerFactory.getLogger(UserSearchService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrigramIndex index = new TrigramIndex();
+    // Edits received while load() runs, null otherwise; guarded by loadLock
+    private final Object loadLock = new Object();
+    private List<UserDetailsChangedEvent> heldBack;
+
+    public UserSearchService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (loadLock) {
+            heldBack = new ArrayList<>();
+        }
+        Map<Long, String[]> users = new HashMap<>();
+        jdbcTemplate.query("SELECT id, username, full_name FROM users",
+                rs -> { users.put(rs.getLong(1), new String[]{rs.getString(2), rs.getString(3)}); });
+        index.load(users);
+        int replayed;
+        synchronized (loadLock) {
+            replayed = heldBack.size();
+            heldBack.forEach(this::apply);
+            heldBack = null;
+        }
+        log.info("[USER-SEARCH] indexed {} users, replayed {} edits made meanwhile", users.size(), replayed);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDetailsChanged(UserDetailsChangedEvent event) {
+        synchronized (loadLock) {
+            if (heldBack != null) {
+                heldBack.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    private void apply(UserDetailsChangedEvent event) {
+        index.put(event.userId(), event.username(), event.fullName());
+    }
+
+    // Ids of the best matches, best first
+    public long[] search(String query, int limit) {
+        return index.search(query, limit);
+    }
+}
@@ -1,57 +1,108 @@
 package com.pingpong.pingpongBackend.service;
 
-import com.pingpong.pingpongBackend.dto.BlogResponse;
+import com.pingpong.pingpongBackend.dto.BlogSummaryResponse;
 import com.pingpong.pingpongBackend.dto.CommentResponse;
+import com.pingpong.pingpongBackend.dto.CursorPage;
 import com.pingpong.pingpongBackend.dto.UserProfileRequest;
-import com.pingpong.pingpongBackend.dto.AuthorDTO;
 import com.pingpong.pingpongBackend.dto.PublicUserProfileDTO;
-import com.pingpong.pingpongBackend.entity.Blog;
-import com.pingpong.pingpongBackend.entity.Like;
+import com.pingpong.pingpongBackend.dto.UserProfile;
 import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.event.FollowChangedEvent;
+import com.pingpong.pingpongBackend.event.ProfileChangedEvent;
+import com.pingpong.pingpongBackend.event.UserDetailsChangedEvent;
+import com.pingpong.pingpongBackend.exception.BadRequestException;
 import com.pingpong.pingpongBackend.repository.BlogRepository;
 import com.pingpong.pingpongBackend.repository.CommentRepository;
+import com.pingpong.pingpongBackend.repository.FollowRepository;
 import com.pingpong.pingpongBackend.repository.LikeRepository;
 import com.pingpong.pingpongBackend.repository.UserRepository;
+import com.pingpong.pingpongBackend.repository.projection.UserProfileView;
+import com.pingpong.pingpongBackend.repository.projection.UserSummaryView;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
     private final BlogRepository blogRepository;
     private final LikeRepository likeRepository;
     private final CommentRepository commentRepository;
+    private final FollowRepository followRepository;
+    private final FollowGraphService followGraph;
+    private final UserSearchService userSearch;
+    private final BlogService blogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<String, UserProfile> profileCache;
 
     @Transactional
-    public User updateProfile(User user, UserProfileRequest request) {
+    public User updateProfile(AuthenticatedUser principal, UserProfileRequest request) {
+        User user = userRepository.findById(principal.id())
+                .orElseThrow(() -> new RuntimeException("User not found"));
         user.setFullName(request.getFullName());
         user.setBio(request.getBio());
         user.setProfilePicture(request.getProfilePicture());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileChangedEvent(saved.getUsername()));
+        eventPublisher.publishEvent(new UserDetailsChangedEvent(saved.getId(), saved.getUsername(), saved.getFullName()));
+        return saved;
     }
 
-    public List<BlogResponse> getLikedBlogs(User user) {
-        List<Like> likes = likeRepository.findByUser(user);
-        return likes.stream()
-                .map(like -> toBlogResponse(like.getBlog()))
-                .collect(Collectors.toList());
+    public UserProfile getProfile(String username) {
+        return profileCache.get(username, this::loadProfile);
+    }
+
+    public PublicUserProfileDTO getPublicProfile(String username) {
+        UserProfile profile = getProfile(username);
+        PublicUserProfileDTO dto = new PublicUserProfileDTO();
+        dto.setUsername(profile.username());
+        dto.setFullName(profile.fullName());
+        dto.setBio(profile.bio());
+        dto.setProfilePicture(profile.profilePicture());
+        return dto;
+    }
+
+    private UserProfile loadProfile(String username) {
+        UserProfileView view = userRepository.findProfileByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        return new UserProfile(view.getId(), view.getUsername(), view.getFullName(), view.getBio(),
+                view.getProfilePicture(), view.getFollowerCount(), view.getFollowingCount());
     }
 
-    public List<CommentResponse> getUserComments(User user) {
-        return commentRepository.findByAuthor(user).stream()
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictProfiles(ProfileChangedEvent event) {
+        profileCache.invalidateAll(Arrays.asList(event.usernames()));
+    }
+
+    public List<BlogSummaryResponse> getLikedBlogs(AuthenticatedUser principal) {
+        return blogService.getLikedBlogs(userRepository.getReferenceById(principal.id()));
+    }
+
+    public List<CommentResponse> getUserComments(AuthenticatedUser principal) {
+        return commentRepository.findByAuthor(userRepository.getReferenceById(principal.id())).stream()
                 .map(comment -> {
                     CommentResponse resp = new CommentResponse();
                     resp.setId(comment.getId());
                     resp.setContent(comment.getContent());
-                    resp.setAuthorUsername(user.getUsername());
+                    resp.setAuthorUsername(principal.username());
                     resp.setCreatedAt(comment.getCreatedAt());
                     resp.setBlogId(comment.getBlog().getId());
                     return resp;
@@ -59,86 +110,111 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
-    private BlogResponse toBlogResponse(Blog blog) {
-        BlogResponse resp = new BlogResponse();
-        resp.setId(blog.getId());
-        resp.setTitle(blog.getTitle());
-        resp.setContent(blog.getContent());
-        resp.setImageUrl(blog.getImageUrl());
-        resp.setAuthor(toAuthorDTO(blog.getAuthor()));
-        resp.setCreatedAt(blog.getCreatedAt());
-        resp.setUpdatedAt(blog.getUpdatedAt());
-        resp.setLikeCount((int) likeRepository.countByBlog(blog));
-        resp.setCommentCount((int) commentRepository.countByBlog(blog));
-        return resp;
-    }
-
-    private AuthorDTO toAuthorDTO(User user) {
-        AuthorDTO dto = new AuthorDTO();
-        dto.setUsername(user.getUsername());
-        dto.setFullName(user.getFullName());
-        dto.setProfilePicture(user.getProfilePicture());
-        return dto;
-    }
-
     @Transactional
-    public void followUser(User currentUser, String usernameToFollow) {
-        log.info("[FOLLOW] {} -> {} (before)", currentUser.getUsername(), usernameToFollow);
-        if (currentUser.getUsername().equals(usernameToFollow)) return;
-        User userToFollow = userRepository.findByUsername(usernameToFollow)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        userToFollow.getFollowers().add(currentUser);
-        userRepository.save(userToFollow);
-        log.info("[FOLLOW] {} -> {} (after)", currentUser.getUsername(), usernameToFollow);
+    public void followUser(AuthenticatedUser currentUser, String usernameToFollow) {
+        if (currentUser.username().equals(usernameToFollow)) return;
+        Long userId = findUserId(usernameToFollow);
+        if (followRepository.insertIgnore(userId, currentUser.id()) > 0) {
+            eventPublisher.publishEvent(new ProfileChangedEvent(currentUser.username(), usernameToFollow));
+            eventPublisher.publishEvent(new FollowChangedEvent(userId, currentUser.id(), true));
+            log.info("[FOLLOW] {} -> {}", currentUser.username(), usernameToFollow);
+        }
     }
 
     @Transactional
-    public void unfollowUser(User currentUser, String usernameToUnfollow) {
-        if (currentUser.getUsername().equals(usernameToUnfollow)) return;
-        User userToUnfollow = userRepository.findByUsername(usernameToUnfollow)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        userToUnfollow.getFollowers().removeIf(follower -> follower.getUsername().equals(currentUser.getUsername()));
-        userRepository.save(userToUnfollow);
+    public void unfollowUser(AuthenticatedUser currentUser, String usernameToUnfollow) {
+        if (currentUser.username().equals(usernameToUnfollow)) return;
+        Long userId = findUserId(usernameToUnfollow);
+        if (followRepository.deleteEdge(userId, currentUser.id()) > 0) {
+            eventPublisher.publishEvent(new ProfileChangedEvent(currentUser.username(), usernameToUnfollow));
+            eventPublisher.publishEvent(new FollowChangedEvent(userId, currentUser.id(), false));
+        }
     }
 
-    @Transactional(readOnly = true)
     public long getFollowersCount(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowers().size();
+        return getProfile(username).followerCount();
     }
 
-    @Transactional(readOnly = true)
     public long getFollowingCount(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowing().size();
+        return getProfile(username).followingCount();
+    }
+
+    public boolean isFollowing(AuthenticatedUser currentUser, String username) {
+        if (currentUser == null || currentUser.username().equals(username)) return false;
+        Long userId = findUserId(username);
+        if (followGraph.isReady()) {
+            return followGraph.isFollowing(currentUser.id(), userId);
+        }
+        return followRepository.existsByUserIdAndFollowerId(userId, currentUser.id());
+    }
+
+    public List<PublicUserProfileDTO> getMutualFollowers(AuthenticatedUser currentUser, String username, int limit) {
+        if (!followGraph.isReady()) return List.of();
+        long[] ids = followGraph.mutualFollowers(currentUser.id(), findUserId(username), Math.min(limit, MAX_PAGE_SIZE));
+        return toProfiles(ids);
+    }
+
+    public List<PublicUserProfileDTO> searchUsers(String query, int limit) {
+        return toProfiles(userSearch.search(query, Math.max(1, Math.min(limit, MAX_PAGE_SIZE))));
+    }
+
+    public List<PublicUserProfileDTO> getSuggestions(AuthenticatedUser currentUser, int limit) {
+        if (!followGraph.isReady()) return List.of();
+        return toProfiles(followGraph.suggestions(currentUser.id(), Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    // Keeps the order of ids
+    private List<PublicUserProfileDTO> toProfiles(long[] ids) {
+        if (ids.length == 0) return List.of();
+        Map<Long, UserSummaryView> byId = userRepository.findSummariesByIds(Arrays.stream(ids).boxed().toList()).stream()
+                .collect(Collectors.toMap(UserSummaryView::getId, Function.identity()));
+        return Arrays.stream(ids)
+                .mapToObj(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::toPublicUserProfileDTO)
+                .toList();
+    }
+
+    public CursorPage<PublicUserProfileDTO> getFollowers(String username, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return toUserPage(followRepository.findFollowers(findUserId(username), parseCursor(cursor),
+                PageRequest.of(0, limit + 1)), limit);
+    }
+
+    public CursorPage<PublicUserProfileDTO> getFollowing(String username, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return toUserPage(followRepository.findFollowing(findUserId(username), parseCursor(cursor),
+                PageRequest.of(0, limit + 1)), limit);
     }
 
-    @Transactional(readOnly = true)
-    public boolean isFollowing(User currentUser, String username) {
-        if (currentUser == null || currentUser.getUsername().equals(username)) return false;
-        User user = userRepository.findByUsername(username)
+    private Long findUserId(String username) {
+        return userRepository.findIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowers().stream()
-            .anyMatch(follower -> follower.getUsername().equals(currentUser.getUsername()));
     }
 
-    @Transactional(readOnly = true)
-    public List<PublicUserProfileDTO> getFollowers(String username) {
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowers().stream().map(this::toPublicUserProfileDTO).toList();
+    // One extra row is fetched to tell whether another page exists; the cursor is the last user id
+    private CursorPage<PublicUserProfileDTO> toUserPage(List<UserSummaryView> rows, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<UserSummaryView> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        CursorPage<PublicUserProfileDTO> page = new CursorPage<>();
+        page.setContent(pageRows.stream().map(this::toPublicUserProfileDTO).toList());
+        page.setSize(pageRows.size());
+        if (hasMore) {
+            page.setNextCursor(String.valueOf(pageRows.get(pageRows.size() - 1).getId()));
+        }
+        return page;
     }
 
-    @Transactional(readOnly = true)
-    public List<PublicUserProfileDTO> getFollowing(String username) {
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowing().stream().map(this::toPublicUserProfileDTO).toList();
+    private long parseCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return Long.MAX_VALUE;
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
     }
 
-    private PublicUserProfileDTO toPublicUserProfileDTO(User user) {
+    private PublicUserProfileDTO toPublicUserProfileDTO(UserSummaryView user) {
         PublicUserProfileDTO dto = new PublicUserProfileDTO();
         dto.setUsername(user.getUsername());
         dto.setFullName(user.getFullName());
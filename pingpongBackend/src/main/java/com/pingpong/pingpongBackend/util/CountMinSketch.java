@@ -0,0 +1,52 @@
+package com.pingpong.pingpongBackend.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size frequency sketch. Estimates never undercount; with width w and
+ * depth d they overcount by at most 2N/w (N = total added) with probability
+ * 1 - 2^-d. Not thread-safe.
+ */
+public class CountMinSketch {
+    private final int width;
+    private final long[][] counts;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.counts = new long[depth][width];
+    }
+
+    // Adds delta and returns the key's new estimate
+    public long add(Object key, long delta) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            int column = column(key, row);
+            counts[row][column] += delta;
+            estimate = Math.min(estimate, counts[row][column]);
+        }
+        return estimate;
+    }
+
+    public long estimate(Object key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            estimate = Math.min(estimate, counts[row][column(key, row)]);
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        for (long[] row : counts) Arrays.fill(row, 0);
+    }
+
+    private int column(Object key, int row) {
+        // Seed per row, then a full 64-bit finaliser (splitmix64): with a single multiply the
+        // low bits picked by the modulus depended only on the key's low hash bits, so keys
+        // colliding in one row collided in all of them
+        long h = key.hashCode() + 0x9E3779B97F4A7C15L * (row + 1);
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return (int) Math.floorMod(h, (long) width);
+    }
+}
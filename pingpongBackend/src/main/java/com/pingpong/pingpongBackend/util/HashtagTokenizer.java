@@ -0,0 +1,41 @@
+package com.pingpong.pingpongBackend.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Extracts lower-cased hashtags ("#" followed by ASCII letters, digits or "_",
+ * the same tags the former #(\w+) pattern matched) in a single pass over the
+ * text. No regex engine, matcher or substrings are involved: the only
+ * allocations are the result set, a scratch buffer and one string per tag.
+ */
+public final class HashtagTokenizer {
+
+    private HashtagTokenizer() {
+    }
+
+    public static Set<String> extract(String content) {
+        Set<String> tags = new HashSet<>();
+        if (content == null) return tags;
+        char[] buffer = null;
+        int length = content.length();
+        for (int hash = content.indexOf('#'); hash >= 0; hash = content.indexOf('#', hash + 1)) {
+            int end = hash + 1;
+            while (end < length && isWordChar(content.charAt(end))) end++;
+            int tagLength = end - hash - 1;
+            if (tagLength == 0) continue;
+            if (buffer == null || buffer.length < tagLength) buffer = new char[Math.max(tagLength, 32)];
+            for (int i = 0; i < tagLength; i++) {
+                char c = content.charAt(hash + 1 + i);
+                buffer[i] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            }
+            tags.add(new String(buffer, 0, tagLength));
+            hash = end - 1;
+        }
+        return tags;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
@@ -0,0 +1,85 @@
+package com.pingpong.pingpongBackend.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity ring of primitive longs. Once full, each add overwrites the
+ * oldest value. Thread-safe; intended for small per-user inboxes.
+ */
+public class LongRingBuffer {
+    private final long[] values;
+    private int next;
+    private int size;
+
+    public LongRingBuffer(int capacity) {
+        this.values = new long[capacity];
+    }
+
+    public synchronized void add(long value) {
+        values[next] = value;
+        next = (next + 1) % values.length;
+        if (size < values.length) size++;
+    }
+
+    // Skips values already held, so redelivered or concurrently merged ids take no extra slot
+    public synchronized boolean addIfAbsent(long value) {
+        if (contains(value)) return false;
+        add(value);
+        return true;
+    }
+
+    public synchronized boolean contains(long value) {
+        for (int i = 0; i < size; i++) {
+            if (at(i) == value) return true;
+        }
+        return false;
+    }
+
+    // Compacts in place, oldest first; a miss costs one scan and no allocation
+    public synchronized boolean remove(long value) {
+        if (!contains(value)) return false;
+        int start = (next - size + values.length) % values.length;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long v = at(i);
+            if (v != value) values[(start + count++) % values.length] = v;
+        }
+        size = count;
+        next = (start + count) % values.length;
+        return true;
+    }
+
+    /**
+     * Returns up to limit distinct values strictly below the given bound,
+     * largest first.
+     */
+    public synchronized long[] largestBelow(long bound, int limit) {
+        long[] matches = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long v = at(i);
+            if (v < bound) matches[count++] = v;
+        }
+        Arrays.sort(matches, 0, count);
+        long[] result = new long[Math.min(limit, count)];
+        int taken = 0;
+        for (int i = count - 1; i >= 0 && taken < result.length; i--) {
+            if (taken > 0 && result[taken - 1] == matches[i]) continue;
+            result[taken++] = matches[i];
+        }
+        return taken == result.length ? result : Arrays.copyOf(result, taken);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    // i-th oldest value held
+    private long at(int i) {
+        return values[(next - size + i + values.length) % values.length];
+    }
+}
@@ -0,0 +1,78 @@
+package com.pingpong.pingpongBackend.util;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Runs two independent blocking lookups side by side: the second on a virtual
+ * thread, the first on the caller's thread. A failure in either cancels the
+ * other and reaches the caller unwrapped, as it would if they ran in turn.
+ *
+ * Forks are capped below the JDBC pool size (application.concurrency.max-forks);
+ * when no permit is free the lookups simply run one after the other, so fan-out
+ * can never starve the pool. With spring.threads.virtual.enabled off nothing is
+ * forked at all.
+ */
+@Component
+public class ParallelLookups {
+    public record Both<A, B>(A first, B second) {
+    }
+
+    private final boolean enabled;
+    private final Semaphore forks;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ParallelLookups(
+            @Value("${spring.threads.virtual.enabled:false}") boolean enabled,
+            @Value("${application.concurrency.max-forks:10}") int maxForks) {
+        this.enabled = enabled;
+        this.forks = new Semaphore(maxForks);
+    }
+
+    @PreDestroy
+    void close() {
+        executor.shutdownNow();
+    }
+
+    public <A, B> Both<A, B> both(Supplier<A> first, Supplier<B> second) {
+        if (!enabled || !forks.tryAcquire()) {
+            return new Both<>(first.get(), second.get());
+        }
+        try {
+            Future<B> forked = executor.submit(second::get);
+            A a;
+            try {
+                a = first.get();
+            } catch (RuntimeException | Error e) {
+                forked.cancel(true);
+                throw e;
+            }
+            return new Both<>(a, join(forked));
+        } finally {
+            forks.release();
+        }
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a lookup");
+        }
+    }
+}
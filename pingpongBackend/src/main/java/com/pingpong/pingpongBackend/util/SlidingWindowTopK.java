@@ -0,0 +1,89 @@
+package com.pingpong.pingpongBackend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Approximate heavy hitters over a sliding time window. The window is split
+ * into buckets, each holding a count-min sketch plus a bounded set of its
+ * heaviest keys; expired buckets are reused in place. Memory is fixed at
+ * construction whatever the event rate:
+ * buckets * (depth * width * 8 bytes + candidates map entries).
+ */
+public class SlidingWindowTopK<K> {
+    public record Entry<K>(K key, long count) {
+    }
+
+    private final long bucketMillis;
+    private final Bucket<K>[] buckets;
+    private final int candidatesPerBucket;
+
+    private static final class Bucket<K> {
+        long epoch = -1;
+        final CountMinSketch sketch;
+        final Map<K, Long> candidates = new HashMap<>();
+
+        Bucket(int width, int depth) {
+            this.sketch = new CountMinSketch(width, depth);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public SlidingWindowTopK(long windowMillis, int bucketCount, int sketchWidth, int sketchDepth, int candidatesPerBucket) {
+        this.bucketMillis = Math.max(1, windowMillis / bucketCount);
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) buckets[i] = new Bucket<>(sketchWidth, sketchDepth);
+        this.candidatesPerBucket = candidatesPerBucket;
+    }
+
+    // Takes the time the event happened; one whose bucket has since been reused for a later
+    // period has left the window and is dropped
+    public synchronized void add(K key, long delta, long atMillis) {
+        long epoch = atMillis / bucketMillis;
+        Bucket<K> bucket = buckets[(int) (epoch % buckets.length)];
+        if (bucket.epoch > epoch) return;
+        if (bucket.epoch != epoch) {
+            bucket.epoch = epoch;
+            bucket.sketch.clear();
+            bucket.candidates.clear();
+        }
+        long estimate = bucket.sketch.add(key, delta);
+        if (bucket.candidates.containsKey(key) || bucket.candidates.size() < candidatesPerBucket) {
+            bucket.candidates.put(key, estimate);
+            return;
+        }
+        // Full: the new key replaces the lightest candidate if it has overtaken it
+        Map.Entry<K, Long> lightest = null;
+        for (Map.Entry<K, Long> entry : bucket.candidates.entrySet()) {
+            if (lightest == null || entry.getValue() < lightest.getValue()) lightest = entry;
+        }
+        if (lightest != null && estimate > lightest.getValue()) {
+            bucket.candidates.remove(lightest.getKey());
+            bucket.candidates.put(key, estimate);
+        }
+    }
+
+    // Candidates from every live bucket, scored by their summed estimates across the window
+    public synchronized List<Entry<K>> top(int limit, long nowMillis) {
+        long oldest = nowMillis / bucketMillis - buckets.length + 1;
+        Set<K> keys = new HashSet<>();
+        for (Bucket<K> bucket : buckets) {
+            if (bucket.epoch >= oldest) keys.addAll(bucket.candidates.keySet());
+        }
+        List<Entry<K>> entries = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            long total = 0;
+            for (Bucket<K> bucket : buckets) {
+                if (bucket.epoch >= oldest) total += bucket.sketch.estimate(key);
+            }
+            entries.add(new Entry<>(key, total));
+        }
+        entries.sort(Comparator.comparingLong(Entry<K>::count).reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+}
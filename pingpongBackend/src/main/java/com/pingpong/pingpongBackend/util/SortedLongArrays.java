@@ -0,0 +1,60 @@
+package com.pingpong.pingpongBackend.util;
+
+import java.util.Arrays;
+
+/**
+ * Set operations on ascending arrays of distinct longs. Inputs are never
+ * modified: insert and remove return a new array (or the same one when
+ * nothing changed), so arrays can be shared between threads once published.
+ */
+public final class SortedLongArrays {
+    public static final long[] EMPTY = new long[0];
+
+    private SortedLongArrays() {
+    }
+
+    public static boolean contains(long[] values, long value) {
+        return values != null && Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public static long[] insert(long[] values, long value) {
+        if (values == null) return new long[]{value};
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) return values;
+        index = -index - 1;
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    // Returns null once the last value is removed
+    public static long[] remove(long[] values, long value) {
+        if (values == null) return null;
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) return values;
+        if (values.length == 1) return null;
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    // Linear merge of both arrays, stopping after limit common values
+    public static long[] intersect(long[] a, long[] b, int limit) {
+        if (a == null || b == null) return EMPTY;
+        long[] result = new long[Math.min(limit, Math.min(a.length, b.length))];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length && n < result.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+}
@@ -0,0 +1,312 @@
+package com.pingpong.pingpongBackend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Prefix trie of weighted terms for autocomplete. Every node keeps the k
+ * heaviest terms below it, so a lookup is a walk down the prefix followed by
+ * a copy of at most k entries, independent of how many terms share the
+ * prefix. Updates recompute the cached lists along the term's path only.
+ *
+ * Chains of single-child nodes are collapsed into one edge (a radix tree),
+ * and children sit in an array sorted by their first character, so a node
+ * costs a few dozen bytes plus its top list rather than a hash map. A term
+ * whose weight drops to zero is removed and the edges around it are merged
+ * back. {@link #load} builds a whole trie in one pass, computing each top
+ * list once, bottom up.
+ */
+public class TopKTrie {
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    public record Entry(String term, long weight) {
+    }
+
+    private static final class Node {
+        // Characters on the edge from the parent; empty for the root only
+        String label;
+        Node[] children = NO_CHILDREN;
+        // This node's own term, null if none
+        Entry self;
+        Entry[] top = NO_ENTRIES;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        // Index of the child whose label starts with c, or -(insertion point) - 1
+        int find(char c) {
+            int lo = 0, hi = children.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char m = children[mid].label.charAt(0);
+                if (m < c) lo = mid + 1;
+                else if (m > c) hi = mid - 1;
+                else return mid;
+            }
+            return -lo - 1;
+        }
+
+        void insert(int at, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, at);
+            grown[at] = child;
+            System.arraycopy(children, at, grown, at + 1, children.length - at);
+            children = grown;
+        }
+
+        void removeAt(int at) {
+            Node[] shrunk = children.length == 1 ? NO_CHILDREN : new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, at);
+            System.arraycopy(children, at + 1, shrunk, at, children.length - at - 1);
+            children = shrunk;
+        }
+    }
+
+    private final int k;
+    private Node root = new Node("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TopKTrie(int k) {
+        this.k = k;
+    }
+
+    /**
+     * Replaces every term. The new trie is built outside the lock and swapped
+     * in, so lookups keep being served from the old one meanwhile.
+     */
+    public void load(Map<String, Long> weights) {
+        String[] terms = weights.entrySet().stream()
+                .filter(e -> e.getValue() > 0 && !e.getKey().isEmpty())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toArray(String[]::new);
+        Node built = new Node("");
+        // Sorted input appends every new child at the end of its parent's array
+        for (String term : terms) {
+            descend(built, term, true, null).self = new Entry(term, weights.get(term));
+        }
+        computeTops(built);
+        lock.writeLock().lock();
+        try {
+            root = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds delta to the term's weight; weights never drop below zero
+    public void add(String term, long delta) {
+        addAll(Map.of(term, delta));
+    }
+
+    // Applies many changes under one lock acquisition, so readers see them together
+    public void addAll(Map<String, Long> deltas) {
+        update(deltas, (weight, delta) -> weight + delta);
+    }
+
+    // Replaces the weights of the given terms; zero removes a term
+    public void setAll(Map<String, Long> weights) {
+        update(weights, (weight, replacement) -> replacement);
+    }
+
+    private void update(Map<String, Long> changes, LongBinaryOperator rule) {
+        lock.writeLock().lock();
+        try {
+            changes.forEach((term, change) -> apply(term, change, rule));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(String term, long change, LongBinaryOperator rule) {
+        if (term.isEmpty()) return;
+        List<Node> path = new ArrayList<>();
+        Node node = descend(root, term, false, path);
+        long old = node == null || node.self == null ? 0 : node.self.weight();
+        long weight = Math.max(0, rule.applyAsLong(old, change));
+        if (weight == old) return;
+        if (weight > old) {
+            path.clear();
+            node = descend(root, term, true, path);
+            node.self = new Entry(term, weight);
+            // A term that misses one node's list misses every list above it too
+            for (int i = path.size() - 1; i >= 0 && raise(path.get(i), node.self); i--) {
+            }
+            return;
+        }
+        if (weight > 0) {
+            node.self = new Entry(term, weight);
+        } else {
+            node.self = null;
+            prune(path);
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            recompute(path.get(i));
+        }
+    }
+
+    /**
+     * Moves a term whose weight went up into place in the node's list, or
+     * enters it if it now beats the last entry. Returns false if the list is
+     * unchanged. Lists are replaced, never written to, as a split node starts
+     * out sharing its child's.
+     */
+    private boolean raise(Node node, Entry entry) {
+        Entry[] top = node.top;
+        int held = top.length;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i].term().equals(entry.term())) {
+                held = i;
+                break;
+            }
+        }
+        if (held == top.length && top.length == k && !heavier(entry, top[k - 1])) return false;
+        int at = 0;
+        while (at < held && heavier(top[at], entry)) at++;
+        Entry[] raised = new Entry[held < top.length || top.length == k ? top.length : top.length + 1];
+        System.arraycopy(top, 0, raised, 0, at);
+        raised[at] = entry;
+        System.arraycopy(top, at, raised, at + 1, Math.min(held, raised.length - 1) - at);
+        if (held < top.length) System.arraycopy(top, held + 1, raised, held + 1, top.length - held - 1);
+        node.top = raised;
+        return true;
+    }
+
+    /**
+     * Walks to the node of term, recording the nodes passed (root first, the
+     * term's node last) in path if given. With create, missing nodes are
+     * added and edges split as needed; without, returns null if the term has
+     * no node.
+     */
+    private static Node descend(Node from, String term, boolean create, List<Node> path) {
+        Node node = from;
+        if (path != null) path.add(node);
+        int pos = 0;
+        while (pos < term.length()) {
+            int at = node.find(term.charAt(pos));
+            if (at < 0) {
+                if (!create) return null;
+                Node leaf = new Node(term.substring(pos));
+                node.insert(-at - 1, leaf);
+                if (path != null) path.add(leaf);
+                return leaf;
+            }
+            Node child = node.children[at];
+            int common = commonPrefix(child.label, term, pos);
+            if (common < child.label.length()) {
+                if (!create) return null;
+                // Split the edge; the new middle node stands for everything child covered
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[]{child};
+                middle.top = child.top;
+                node.children[at] = middle;
+                child = middle;
+            }
+            node = child;
+            pos += common;
+            if (path != null) path.add(node);
+        }
+        return node;
+    }
+
+    private static int commonPrefix(String label, String term, int from) {
+        int n = Math.min(label.length(), term.length() - from);
+        int i = 0;
+        while (i < n && label.charAt(i) == term.charAt(from + i)) i++;
+        return i;
+    }
+
+    /**
+     * Removes the now termless last node of path if it has no children, and
+     * merges a termless node left with a single child into that child. Only
+     * the term's node and its parent can change shape; path is trimmed to the
+     * nodes still in the trie.
+     */
+    private void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            if (node.self != null || node.children.length > 1) return;
+            int at = parent.find(node.label.charAt(0));
+            if (node.children.length == 0) {
+                parent.removeAt(at);
+                path.remove(i);
+            } else {
+                Node only = node.children[0];
+                only.label = node.label + only.label;
+                parent.children[at] = only;
+                path.remove(i);
+                return;
+            }
+        }
+    }
+
+    public List<Entry> topK(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int pos = 0;
+            while (pos < prefix.length()) {
+                int at = node.find(prefix.charAt(pos));
+                if (at < 0) return List.of();
+                Node child = node.children[at];
+                int common = commonPrefix(child.label, prefix, pos);
+                // The prefix may end inside the child's edge
+                if (common < child.label.length() && pos + common < prefix.length()) return List.of();
+                node = child;
+                pos += common;
+            }
+            return List.of(node.top.length <= limit ? node.top : Arrays.copyOf(node.top, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Post-order, so every child's list is ready before its parent's
+    private void computeTops(Node node) {
+        for (Node child : node.children) computeTops(child);
+        recompute(node);
+    }
+
+    // Top lists are ordered heaviest first, then alphabetically
+    private static boolean heavier(Entry a, Entry b) {
+        return a.weight() > b.weight() || (a.weight() == b.weight() && a.term().compareTo(b.term()) < 0);
+    }
+
+    // Merges the node's own term with its children's lists, each already sorted
+    private void recompute(Node node) {
+        Node[] children = node.children;
+        int available = node.self == null ? 0 : 1;
+        for (Node child : children) available += child.top.length;
+        if (available == 0) {
+            node.top = NO_ENTRIES;
+            return;
+        }
+        Entry[] top = new Entry[Math.min(k, available)];
+        int[] next = new int[children.length];
+        boolean selfTaken = node.self == null;
+        for (int n = 0; n < top.length; n++) {
+            Entry best = selfTaken ? null : node.self;
+            int from = -1;
+            for (int c = 0; c < children.length; c++) {
+                Entry[] list = children[c].top;
+                if (next[c] < list.length && (best == null || heavier(list[next[c]], best))) {
+                    best = list[next[c]];
+                    from = c;
+                }
+            }
+            if (from < 0) selfTaken = true;
+            else next[from]++;
+            top[n] = best;
+        }
+        node.top = top;
+    }
+}
@@ -0,0 +1,380 @@
+package com.pingpong.pingpongBackend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over a few short text fields per id (e.g. username, full
+ * name). Values are lower-cased and wrapped in '$' boundaries, so "$ab" marks
+ * a prefix and " ab" a word start. Matches rank exact, then prefix, then word
+ * prefix, then substring, then typo, then fuzzy; on equal rank the one
+ * sharing more trigrams, then the earlier field, then the lower id wins. Only
+ * the best limit are kept.
+ *
+ * The tiers are searched best first, through the grams every match of the
+ * tier must have ("$q$", "$q", " q", "q"), and the search stops as soon as
+ * the kept matches can no longer be beaten. Queries of 4 to 12 characters
+ * are then retried with each adjacent pair swapped and each character
+ * dropped, so "jhon" finds "john"; a letter missing from the query is not
+ * recovered. Last come ids sharing at least half of the trigrams of "$q",
+ * which tolerates a changed letter in a longer name.
+ *
+ * Queries of one or two characters have no trigram of their own and match
+ * field and word prefixes through the "$j" and " j" bigrams, indexed at every
+ * word start, or the trigram "$jo"/" jo" itself.
+ *
+ * Every step walks a bounded number of ids (MAX_SCAN, MAX_CANDIDATES_PER_GRAM),
+ * so a search costs about the same with millions of users as with thousands.
+ * The price is that a very common gram is only sampled, earliest registered
+ * users first.
+ */
+public class TrigramIndex {
+    private static final int EXACT = 0, PREFIX = 1, WORD_PREFIX = 2, SUBSTRING = 3, TYPO = 4, FUZZY = 5;
+    private static final int MAX_SCAN = 1_000;
+    private static final int MAX_CANDIDATES_PER_GRAM = 500;
+    private static final int MIN_TYPO_LENGTH = 4, MAX_TYPO_LENGTH = 12;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, String... fields) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            String[] normalized = normalize(fields);
+            documents.put(id, normalized);
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, g -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index. Posting lists are collected unsorted and
+     * sorted once, which is much cheaper than inserting ids one by one.
+     */
+    public void load(Map<Long, String[]> all) {
+        Map<String, long[]> lists = new HashMap<>();
+        Map<String, Integer> sizes = new HashMap<>();
+        Map<Long, String[]> docs = new HashMap<>(all.size() * 2);
+        all.forEach((id, fields) -> {
+            String[] normalized = normalize(fields);
+            docs.put(id, normalized);
+            for (String gram : grams(normalized)) {
+                int size = sizes.merge(gram, 1, Integer::sum);
+                long[] list = lists.computeIfAbsent(gram, g -> new long[4]);
+                if (size > list.length) {
+                    list = Arrays.copyOf(list, list.length * 2);
+                    lists.put(gram, list);
+                }
+                list[size - 1] = id;
+            }
+        });
+        Map<String, Postings> built = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, list) -> {
+            int size = sizes.get(gram);
+            Arrays.sort(list, 0, size);
+            built.put(gram, new Postings(list, size));
+        });
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            postings.putAll(built);
+            documents.clear();
+            documents.putAll(docs);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] search(String query, int limit) {
+        String q = query.trim().toLowerCase(Locale.ROOT);
+        if (q.isEmpty() || limit <= 0) return SortedLongArrays.EMPTY;
+        lock.readLock().lock();
+        try {
+            TopHits top = new TopHits(limit);
+            // Best tier first, so each step only runs while it can still improve the result
+            containing("$" + q + "$", q, EXACT, top);
+            containing("$" + q, q, PREFIX, top);
+            containing(" " + q, q, WORD_PREFIX, top);
+            if (q.length() >= 3) containing(q, q, SUBSTRING, top);
+            if (q.length() >= MIN_TYPO_LENGTH && q.length() <= MAX_TYPO_LENGTH) {
+                for (String variant : typoVariants(q)) containing(variant, variant, TYPO, top);
+            }
+            if (q.length() >= 3) similarTo(q, top);
+            return top.ids();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids holding every gram of text, which are nearly always the ones
+     * matching it at tier. The shortest posting list is walked, for at most
+     * MAX_SCAN ids, and the others are galloped through in step with it.
+     */
+    private void containing(String text, String q, int tier, TopHits top) {
+        if (top.done(tier)) return;
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams(text, grams);
+        List<Postings> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Postings ids = postings.get(gram);
+            if (ids == null) return;
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.size));
+        Postings shortest = lists.get(0);
+        int[] cursors = new int[lists.size()];
+        scan:
+        for (int i = 0, n = Math.min(shortest.size, MAX_SCAN); i < n && !top.done(tier); i++) {
+            long id = shortest.ids[i];
+            for (int l = 1; l < lists.size(); l++) {
+                Postings other = lists.get(l);
+                int at = cursors[l] = other.seek(id, cursors[l]);
+                if (at == other.size) break scan;
+                if (other.ids[at] != id) continue scan;
+            }
+            offer(id, q, tier == TYPO, lists.size(), top);
+        }
+    }
+
+    /**
+     * Ids sharing at least half of the trigrams of "$" + q. An id with minHits
+     * of n grams is in at least one of the n - minHits + 1 shortest lists, so
+     * only those are walked, each for at most MAX_CANDIDATES_PER_GRAM ids; its
+     * hits in the other lists are found by binary search.
+     */
+    private void similarTo(String q, TopHits top) {
+        if (top.done(FUZZY)) return;
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams("$" + q, grams);
+        List<Postings> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Postings ids = postings.get(gram);
+            if (ids != null) lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.size));
+        int minHits = Math.max(1, (grams.size() + 1) / 2);
+        for (int s = 0; s < lists.size() - minHits + 1; s++) {
+            Postings seed = lists.get(s);
+            for (int i = 0, n = Math.min(seed.size, MAX_CANDIDATES_PER_GRAM); i < n && !top.done(FUZZY); i++) {
+                long id = seed.ids[i];
+                int hits = 1;
+                for (int other = 0; other < lists.size(); other++) {
+                    if (other != s && lists.get(other).contains(id)) hits++;
+                }
+                if (hits >= minHits) offer(id, q, false, hits, top);
+            }
+        }
+    }
+
+    // An id turned down before is turned down again, since the kept hits only get better
+    private void offer(long id, String text, boolean typo, int hits, TopHits top) {
+        if (top.contains(id)) return;
+        String[] fields = documents.get(id);
+        int rank = rank(fields, text);
+        int tier = rank / fields.length;
+        if (!typo) {
+            top.offer(id, (long) tier << 32 | rank % fields.length, hits);
+        } else if (tier != FUZZY) {
+            // Typo matches sort between substring and fuzzy matches, by how the variant matched
+            top.offer(id, (long) TYPO << 32 | rank, hits);
+        }
+    }
+
+    // Adjacent swaps and single deletions: "jhon" finds "john", "jonn" finds "jon"
+    private static Set<String> typoVariants(String q) {
+        Set<String> variants = new LinkedHashSet<>();
+        char[] chars = q.toCharArray();
+        for (int i = 0; i + 1 < chars.length; i++) {
+            char c = chars[i];
+            chars[i] = chars[i + 1];
+            chars[i + 1] = c;
+            variants.add(new String(chars));
+            chars[i + 1] = chars[i];
+            chars[i] = c;
+        }
+        for (int i = 0; i < q.length(); i++) {
+            variants.add(q.substring(0, i) + q.substring(i + 1));
+        }
+        variants.remove(q);
+        return variants;
+    }
+
+    private void removeLocked(long id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) return;
+        for (String gram : grams(previous)) {
+            postings.computeIfPresent(gram, (g, ids) -> ids.remove(id) ? ids : null);
+        }
+    }
+
+    private static int rank(String[] fields, String q) {
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < fields.length; i++) {
+            String field = fields[i];
+            int tier;
+            if (field.equals(q)) tier = EXACT;
+            else if (field.startsWith(q)) tier = PREFIX;
+            else if (field.contains(" " + q)) tier = WORD_PREFIX;
+            else if (field.contains(q)) tier = SUBSTRING;
+            else tier = FUZZY;
+            best = Math.min(best, tier * fields.length + i);
+        }
+        return best;
+    }
+
+    private static String[] normalize(String[] fields) {
+        String[] normalized = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            normalized[i] = fields[i] == null ? "" : fields[i].trim().toLowerCase(Locale.ROOT);
+        }
+        return normalized;
+    }
+
+    private static Set<String> grams(String[] fields) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field.isEmpty()) continue;
+            addGrams("$" + field + "$", grams);
+            // Word-start bigrams for one-character queries
+            grams.add("$" + field.charAt(0));
+            for (int i = field.indexOf(' '); i >= 0 && i + 1 < field.length(); i = field.indexOf(' ', i + 1)) {
+                if (field.charAt(i + 1) != ' ') grams.add(" " + field.charAt(i + 1));
+            }
+        }
+        return grams;
+    }
+
+    private static void addGrams(String text, Set<String> into) {
+        if (text.length() < 3) {
+            into.add(text);
+            return;
+        }
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            into.add(text.substring(i, i + 3));
+        }
+    }
+
+    /**
+     * Ascending ids with spare capacity, changed in place under the write lock.
+     * New ids are usually the largest, so registrations append without
+     * copying; other changes shift the tail rather than reallocating the list.
+     */
+    private static final class Postings {
+        private long[] ids;
+        private int size;
+
+        Postings() {
+            this(new long[4], 0);
+        }
+
+        Postings(long[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        void add(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) return;
+            index = -index - 1;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        // Index of the first id >= id at or after from; gallops, as callers step through in order
+        int seek(long id, int from) {
+            int step = 1;
+            int hi = from;
+            while (hi < size && ids[hi] < id) {
+                from = hi + 1;
+                hi += step;
+                step <<= 1;
+            }
+            int index = Arrays.binarySearch(ids, from, Math.min(hi + 1, size), id);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        // False once the list is empty, so the gram can be dropped
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+            return size > 0;
+        }
+    }
+
+    /**
+     * The best limit hits so far by score, then more shared grams, then lower
+     * id; the worst one kept is at the head of the heap.
+     */
+    private static final class TopHits {
+        private static final Comparator<long[]> BEST_FIRST = Comparator.<long[]>comparingLong(hit -> hit[1])
+                .thenComparingLong(hit -> -hit[2])
+                .thenComparingLong(hit -> hit[0]);
+
+        private final int limit;
+        private final PriorityQueue<long[]> heap;
+        private final Set<Long> kept = new HashSet<>();
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        }
+
+        // Full, and no match at tier can beat the worst one kept
+        boolean done(int tier) {
+            return heap.size() == limit && heap.peek()[1] <= (long) tier << 32;
+        }
+
+        boolean contains(long id) {
+            return kept.contains(id);
+        }
+
+        void offer(long id, long score, int hits) {
+            long[] hit = {id, score, hits};
+            if (heap.size() == limit) {
+                if (BEST_FIRST.compare(hit, heap.peek()) >= 0) return;
+                kept.remove(heap.poll()[0]);
+            }
+            heap.add(hit);
+            kept.add(id);
+        }
+
+        long[] ids() {
+            return heap.stream().sorted(BEST_FIRST).mapToLong(hit -> hit[0]).toArray();
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.pingpong.pingpongBackend;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 
 @SpringBootTest
+@Import(TestcontainersConfiguration.class)
 class PingpongBackendApplicationTests {
 
 	@Test
@@ -0,0 +1,76 @@
+package com.pingpong.pingpongBackend;
+
+import com.pingpong.pingpongBackend.entity.Blog;
+import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.repository.BlogRepository;
+import com.pingpong.pingpongBackend.repository.LikeRepository;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Users, blogs and likes for tests that run against the test database.
+ * Names and hashtags carry a per-instance prefix so tests do not see each
+ * other's rows; {@link #cleanUp()} removes everything created.
+ */
+public class TestData {
+	private final UserRepository userRepository;
+	private final BlogRepository blogRepository;
+	private final LikeRepository likeRepository;
+	private final String prefix = "t" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+	private final List<Long> userIds = new ArrayList<>();
+	private final List<Long> blogIds = new ArrayList<>();
+
+	public TestData(UserRepository userRepository, BlogRepository blogRepository, LikeRepository likeRepository) {
+		this.userRepository = userRepository;
+		this.blogRepository = blogRepository;
+		this.likeRepository = likeRepository;
+	}
+
+	// Unique to this instance; hashtags are stored lower-cased, and so is the prefix
+	public String name(String suffix) {
+		return prefix + suffix;
+	}
+
+	public User user(String suffix) {
+		User user = userRepository.save(User.builder()
+				.username(name(suffix))
+				.email(name(suffix) + "@example.test")
+				.password("unused")
+				.fullName(suffix)
+				.build());
+		userIds.add(user.getId());
+		return user;
+	}
+
+	public Blog blog(User author, String... hashtags) {
+		Blog blog = new Blog();
+		blog.setTitle(name("title"));
+		blog.setContent("content");
+		blog.setExcerpt("content");
+		blog.setAuthor(author);
+		blog.setHashtags(Set.of(hashtags));
+		blog = blogRepository.save(blog);
+		blogIds.add(blog.getId());
+		return blog;
+	}
+
+	public List<Blog> blogs(int count, User author, String... hashtags) {
+		List<Blog> blogs = new ArrayList<>();
+		for (int i = 0; i < count; i++) blogs.add(blog(author, hashtags));
+		return blogs;
+	}
+
+	public void like(User user, List<Blog> blogs) {
+		blogs.forEach(blog -> likeRepository.insertIgnore(user.getId(), blog.getId()));
+	}
+
+	// Likes and hashtags go with their blogs
+	public void cleanUp() {
+		blogRepository.deleteAllById(blogIds);
+		userRepository.deleteAllById(userIds);
+	}
+}
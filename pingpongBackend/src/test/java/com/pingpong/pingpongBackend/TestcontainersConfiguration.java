@@ -0,0 +1,22 @@
+package com.pingpong.pingpongBackend;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Throwaway MariaDB for tests that need the database, so they never write to
+ * the auth_db of application.yml. {@link ServiceConnection} points the
+ * datasource at the container; each application context starts its own.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+	@Bean
+	@ServiceConnection
+	MariaDBContainer<?> mariaDbContainer() {
+		return new MariaDBContainer<>(DockerImageName.parse("mariadb:latest"));
+	}
+}
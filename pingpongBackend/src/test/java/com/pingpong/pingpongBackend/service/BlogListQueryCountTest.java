@@ -0,0 +1,99 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.TestData;
+import com.pingpong.pingpongBackend.TestcontainersConfiguration;
+import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.repository.BlogRepository;
+import com.pingpong.pingpongBackend.repository.LikeRepository;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression guard for N+1 selects in list endpoints: a page must cost the same
+ * number of statements whether it holds a few blogs or many.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestcontainersConfiguration.class)
+class BlogListQueryCountTest {
+	private static final int FEW = 2;
+	private static final int MANY = 12;
+
+	@Autowired
+	private BlogService blogService;
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private BlogRepository blogRepository;
+	@Autowired
+	private LikeRepository likeRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private TestData data;
+	private Statistics statistics;
+	private User fewLikes;
+	private User manyLikes;
+
+	@BeforeEach
+	void setUp() {
+		data = new TestData(userRepository, blogRepository, likeRepository);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		User author = data.user("author");
+		fewLikes = data.user("few");
+		manyLikes = data.user("many");
+		data.like(fewLikes, data.blogs(FEW, author, data.name("few"), data.name("both")));
+		data.like(manyLikes, data.blogs(MANY, author, data.name("many"), data.name("both")));
+	}
+
+	@AfterEach
+	void tearDown() {
+		data.cleanUp();
+	}
+
+	@Test
+	void paginatedListCostIsIndependentOfPageSize() {
+		assertThat(statementsFor(() -> blogService.getBlogsPaginated(0, MANY)))
+				.isEqualTo(statementsFor(() -> blogService.getBlogsPaginated(0, FEW)));
+	}
+
+	@Test
+	void hashtagListCostIsIndependentOfMatches() {
+		assertThat(statementsFor(() -> assertThat(blogService.getBlogsByHashtag(data.name("many"))).hasSize(MANY)))
+				.isEqualTo(statementsFor(() -> assertThat(blogService.getBlogsByHashtag(data.name("few"))).hasSize(FEW)));
+	}
+
+	@Test
+	void allBlogsCostsOneQueryPlusHashtags() {
+		assertThat(statementsFor(blogService::getAllBlogs))
+				.isEqualTo(statementsFor(() -> blogService.getBlogsByHashtag(data.name("few"))));
+	}
+
+	@Test
+	void likedBlogsCostIsIndependentOfLikes() {
+		assertThat(statementsFor(() -> assertThat(userService.getLikedBlogs(principal(manyLikes))).hasSize(MANY)))
+				.isEqualTo(statementsFor(() -> assertThat(userService.getLikedBlogs(principal(fewLikes))).hasSize(FEW)));
+	}
+
+	private long statementsFor(Runnable call) {
+		statistics.clear();
+		call.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private static AuthenticatedUser principal(User user) {
+		return new AuthenticatedUser(user.getId(), user.getUsername(), user.getEmail(), user.getFullName());
+	}
+}
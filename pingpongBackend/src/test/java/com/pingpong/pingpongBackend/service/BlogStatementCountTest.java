@@ -0,0 +1,148 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pingpong.pingpongBackend.TestData;
+import com.pingpong.pingpongBackend.TestcontainersConfiguration;
+import com.pingpong.pingpongBackend.dto.BlogResponse;
+import com.pingpong.pingpongBackend.entity.Blog;
+import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.repository.BlogRepository;
+import com.pingpong.pingpongBackend.repository.LikeRepository;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements each blog read costs, counted through Hibernate statistics.
+ * Author and hashtags must come with the blog, never as a select per row.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestcontainersConfiguration.class)
+class BlogStatementCountTest {
+	private static final int BLOGS = 12;
+
+	@Autowired
+	private BlogService blogService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private BlogRepository blogRepository;
+	@Autowired
+	private LikeRepository likeRepository;
+	@Autowired
+	private Cache<Long, BlogResponse> blogCache;
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private TestData data;
+	private Statistics statistics;
+	private User author;
+	private List<Blog> blogs;
+
+	@BeforeEach
+	void setUp() {
+		data = new TestData(userRepository, blogRepository, likeRepository);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		author = data.user("author");
+		blogs = data.blogs(BLOGS, author, data.name("first"), data.name("second"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		data.cleanUp();
+	}
+
+	@Test
+	void blogDetailLoadsAuthorAndHashtagsInOneStatement() {
+		Long id = blogs.get(0).getId();
+		blogCache.invalidate(id);
+		assertThat(statementsFor(() -> assertThat(blogService.getBlogById(id).getHashtags()).hasSize(2)))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void feedPageCostsSummariesPlusHashtags() {
+		assertThat(statementsFor(() -> assertThat(blogService.getFeed(null, BLOGS).getContent()).hasSize(BLOGS)))
+				.isEqualTo(2);
+	}
+
+	@Test
+	void authorPageCostsUserSummariesPlusHashtags() {
+		assertThat(statementsFor(() -> assertThat(blogService.getBlogsByUser(author.getUsername(), null, BLOGS).getContent())
+				.hasSize(BLOGS)
+				.allSatisfy(blog -> assertThat(blog.getHashtags()).hasSize(2))))
+				.isEqualTo(3);
+	}
+
+	@Test
+	void exportIsOneStatementWithHashtags() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThat(statementsFor(() -> {
+			try {
+				blogService.exportBlogs(out);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		})).isEqualTo(1);
+
+		List<BlogResponse> exported = out.toString(StandardCharsets.UTF_8).lines()
+				.map(this::read)
+				.filter(blog -> blog.getAuthor().getUsername().equals(author.getUsername()))
+				.toList();
+		assertThat(exported).hasSize(BLOGS)
+				.allSatisfy(blog -> assertThat(blog.getHashtags())
+						.containsExactlyInAnyOrder(data.name("first"), data.name("second")));
+	}
+
+	@Test
+	void exportKeepsHashtagListsLongerThanTheGroupConcatDefault() {
+		// 100 tags of 17 characters, about 1.8 KB joined
+		String[] tags = IntStream.range(0, 100).mapToObj(i -> data.name("tag" + (100 + i))).toArray(String[]::new);
+		Blog blog = data.blog(author, tags);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			blogService.exportBlogs(out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		assertThat(out.toString(StandardCharsets.UTF_8).lines()
+				.map(this::read)
+				.filter(exported -> exported.getId().equals(blog.getId()))
+				.findFirst())
+				.hasValueSatisfying(exported -> assertThat(exported.getHashtags()).containsExactlyInAnyOrder(tags));
+	}
+
+	private BlogResponse read(String line) {
+		try {
+			return objectMapper.readValue(line, BlogResponse.class);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private long statementsFor(Runnable call) {
+		statistics.clear();
+		call.run();
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,128 @@
+package com.pingpong.pingpongBackend.service;
+
+import com.pingpong.pingpongBackend.TestData;
+import com.pingpong.pingpongBackend.TestcontainersConfiguration;
+import com.pingpong.pingpongBackend.entity.Blog;
+import com.pingpong.pingpongBackend.entity.User;
+import com.pingpong.pingpongBackend.repository.BlogRepository;
+import com.pingpong.pingpongBackend.repository.LikeRepository;
+import com.pingpong.pingpongBackend.repository.UserRepository;
+import com.pingpong.pingpongBackend.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Double-clicks and crowds: concurrent likes must leave one row per user and
+ * a counter equal to the number of rows.
+ */
+@SpringBootTest(properties = "application.likes.write-behind.enabled=false")
+@Import(TestcontainersConfiguration.class)
+class LikeConcurrencyTest {
+	private static final int THREADS = 16;
+	private static final int LIKERS = 20;
+
+	@Autowired
+	private LikeService likeService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private BlogRepository blogRepository;
+	@Autowired
+	private LikeRepository likeRepository;
+
+	private TestData data;
+	private Blog blog;
+
+	@BeforeEach
+	void setUp() {
+		data = new TestData(userRepository, blogRepository, likeRepository);
+		blog = data.blog(data.user("author"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		data.cleanUp();
+	}
+
+	@Test
+	void sameUserLikingManyTimesAtOnceCountsOnce() throws Exception {
+		AuthenticatedUser liker = principal(data.user("liker"));
+		List<Runnable> calls = new ArrayList<>();
+		for (int i = 0; i < THREADS * 4; i++) calls.add(() -> likeService.likeBlog(blog.getId(), liker));
+
+		runTogether(calls);
+
+		assertThat(likeRepository.countByBlog(blog)).isEqualTo(1);
+		assertThat(likeService.getLikeCount(blog.getId(), liker)).isEqualTo(1);
+	}
+
+	@Test
+	void manyUsersLikingAtOnceAreAllCounted() throws Exception {
+		List<Runnable> calls = new ArrayList<>();
+		for (int i = 0; i < LIKERS; i++) {
+			AuthenticatedUser liker = principal(data.user("liker" + i));
+			// Each user double-clicks
+			calls.add(() -> likeService.likeBlog(blog.getId(), liker));
+			calls.add(() -> likeService.likeBlog(blog.getId(), liker));
+		}
+
+		runTogether(calls);
+
+		assertThat(likeRepository.countByBlog(blog)).isEqualTo(LIKERS);
+		assertThat(likeService.getLikeCount(blog.getId(), null)).isEqualTo(LIKERS);
+	}
+
+	@Test
+	void concurrentLikeAndUnlikeKeepCounterInStep() throws Exception {
+		AuthenticatedUser liker = principal(data.user("liker"));
+		List<Runnable> calls = new ArrayList<>();
+		for (int i = 0; i < THREADS * 2; i++) {
+			calls.add(i % 2 == 0
+					? () -> likeService.likeBlog(blog.getId(), liker)
+					: () -> likeService.unlikeBlog(blog.getId(), liker));
+		}
+
+		runTogether(calls);
+
+		long rows = likeRepository.countByBlog(blog);
+		assertThat(rows).isBetween(0L, 1L);
+		assertThat(likeService.getLikeCount(blog.getId(), null)).isEqualTo(rows);
+	}
+
+	// Released from one latch so the calls overlap as much as possible; rethrows the first failure
+	private static void runTogether(List<Runnable> calls) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (Runnable call : calls) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					call.run();
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) future.get();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static AuthenticatedUser principal(User user) {
+		return new AuthenticatedUser(user.getId(), user.getUsername(), user.getEmail(), user.getFullName());
+	}
+}
@@ -0,0 +1,100 @@
+package com.pingpong.pingpongBackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Accuracy against memory for the sketch behind trending: a skewed stream of
+ * 100k events over 20k keys, measured at a few widths.
+ */
+class CountMinSketchTest {
+	private static final int DEPTH = 4;
+	private static final int EVENTS = 100_000;
+	private static final int KEYS = 20_000;
+
+	@Test
+	void neverUndercounts() {
+		Map<Integer, Long> truth = skewedStream(new Random(1));
+		CountMinSketch sketch = fill(1024, truth);
+		truth.forEach((key, count) -> assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(count));
+	}
+
+	@Test
+	void overcountStaysWithinBoundForAlmostAllKeys() {
+		Map<Integer, Long> truth = skewedStream(new Random(2));
+		int width = 1024;
+		CountMinSketch sketch = fill(width, truth);
+		// At most 2N/w with probability 1 - 2^-d per key
+		long bound = 2L * EVENTS / width;
+		long outside = truth.entrySet().stream()
+				.filter(entry -> sketch.estimate(entry.getKey()) - entry.getValue() > bound)
+				.count();
+		assertThat((double) outside / truth.size()).isLessThanOrEqualTo(Math.pow(2, -DEPTH));
+	}
+
+	@Test
+	void errorShrinksAsMemoryGrows() {
+		Map<Integer, Long> truth = skewedStream(new Random(3));
+		double previous = Double.MAX_VALUE;
+		for (int width : new int[]{256, 1024, 4096}) {
+			// width * depth * 8 bytes: 8 KB, 32 KB, 128 KB
+			double error = meanOvercount(fill(width, truth), truth);
+			assertThat(error).isLessThan(previous).isLessThanOrEqualTo(2.0 * EVENTS / width);
+			previous = error;
+		}
+	}
+
+	@Test
+	void heavyKeysAreWithinTenPercentAtTrendingDefaults() {
+		Map<Integer, Long> truth = skewedStream(new Random(4));
+		CountMinSketch sketch = fill(2048, truth);
+		for (int key = 0; key < 10; key++) {
+			long count = truth.get(key);
+			assertThat(sketch.estimate(key)).isBetween(count, count + count / 10);
+		}
+	}
+
+	@Test
+	void clearResetsEveryCounter() {
+		Map<Integer, Long> truth = skewedStream(new Random(5));
+		CountMinSketch sketch = fill(256, truth);
+		sketch.clear();
+		truth.keySet().forEach(key -> assertThat(sketch.estimate(key)).isZero());
+	}
+
+	private static CountMinSketch fill(int width, Map<Integer, Long> truth) {
+		CountMinSketch sketch = new CountMinSketch(width, DEPTH);
+		truth.forEach(sketch::add);
+		return sketch;
+	}
+
+	private static double meanOvercount(CountMinSketch sketch, Map<Integer, Long> truth) {
+		return truth.entrySet().stream()
+				.mapToLong(entry -> sketch.estimate(entry.getKey()) - entry.getValue())
+				.average()
+				.orElse(0);
+	}
+
+	// Roughly Zipfian: key k is drawn with weight 1 / (k + 1)
+	private static Map<Integer, Long> skewedStream(Random random) {
+		double[] cumulative = new double[KEYS];
+		double total = 0;
+		for (int k = 0; k < KEYS; k++) {
+			total += 1.0 / (k + 1);
+			cumulative[k] = total;
+		}
+		Map<Integer, Long> counts = new HashMap<>();
+		for (int i = 0; i < EVENTS; i++) {
+			int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+			int key = index >= 0 ? index : Math.min(-index - 1, KEYS - 1);
+			counts.merge(key, 1L, Long::sum);
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,111 @@
+package com.pingpong.pingpongBackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Heavy hitters over a one-minute window of six buckets: ten hot keys among
+ * 20k one-off keys, spread randomly across the window.
+ */
+class SlidingWindowTopKTest {
+	private static final long WINDOW = 60_000;
+	private static final int BUCKETS = 6;
+	private static final long START = 1_000_000_000L;
+	private static final int HOT_KEYS = 10;
+	private static final int HOT_COUNT = 500;
+	private static final int COLD_KEYS = 20_000;
+
+	private record Event(String key, long at) {
+	}
+
+	@Test
+	void findsEveryHotKeyWithoutUndercounting() {
+		SlidingWindowTopK<String> topK = new SlidingWindowTopK<>(WINDOW, BUCKETS, 1024, 4, 50);
+		Map<String, Long> truth = replay(topK, stream(new Random(1)));
+
+		List<SlidingWindowTopK.Entry<String>> top = topK.top(HOT_KEYS, START + WINDOW - 1);
+		assertThat(top).extracting(SlidingWindowTopK.Entry::key)
+				.containsExactlyInAnyOrderElementsOf(hotKeys());
+		// Each bucket overcounts by at most 2n/w, n being that bucket's events
+		long bound = 2L * truth.values().stream().mapToLong(Long::longValue).sum() / 1024;
+		top.forEach(entry -> assertThat(entry.count()).isBetween(truth.get(entry.key()), truth.get(entry.key()) + bound));
+	}
+
+	@Test
+	void smallerSketchesStillRankHotKeysFirst() {
+		for (int width : new int[]{256, 512, 1024}) {
+			// buckets * width * depth * 8 bytes: 48 KB to 192 KB, plus 50 candidates per bucket
+			SlidingWindowTopK<String> topK = new SlidingWindowTopK<>(WINDOW, BUCKETS, width, 4, 50);
+			replay(topK, stream(new Random(2)));
+			assertThat(topK.top(HOT_KEYS, START + WINDOW - 1)).extracting(SlidingWindowTopK.Entry::key)
+					.containsExactlyInAnyOrderElementsOf(hotKeys());
+		}
+	}
+
+	@Test
+	void candidatesStayBoundedWhateverTheKeyCount() {
+		SlidingWindowTopK<String> topK = new SlidingWindowTopK<>(WINDOW, BUCKETS, 1024, 4, 50);
+		replay(topK, stream(new Random(3)));
+		assertThat(topK.top(Integer.MAX_VALUE, START + WINDOW - 1)).hasSizeLessThanOrEqualTo(BUCKETS * 50);
+	}
+
+	@Test
+	void countsLeaveTheWindowAsBucketsExpire() {
+		SlidingWindowTopK<String> topK = new SlidingWindowTopK<>(WINDOW, BUCKETS, 1024, 4, 50);
+		topK.add("old", 5, START);
+		assertThat(topK.top(10, START + WINDOW - 1)).extracting(SlidingWindowTopK.Entry::key).containsExactly("old");
+
+		topK.add("new", 1, START + WINDOW);
+		assertThat(topK.top(10, START + WINDOW)).extracting(SlidingWindowTopK.Entry::key).containsExactly("new");
+	}
+
+	@Test
+	void lateEventsCountInTheirOwnBucketOrNotAtAll() {
+		SlidingWindowTopK<String> topK = new SlidingWindowTopK<>(WINDOW, BUCKETS, 1024, 4, 50);
+		topK.add("current", 1, START + WINDOW);
+		// Replayed after the fact: one still inside the window, one whose bucket was reused
+		topK.add("late", 3, START + WINDOW / 2);
+		topK.add("expired", 5, START);
+
+		assertThat(topK.top(10, START + WINDOW)).extracting(SlidingWindowTopK.Entry::key)
+				.containsExactly("late", "current");
+	}
+
+	private static Map<String, Long> replay(SlidingWindowTopK<String> topK, List<Event> events) {
+		Map<String, Long> truth = new HashMap<>();
+		for (Event event : events) {
+			topK.add(event.key(), 1, event.at());
+			truth.merge(event.key(), 1L, Long::sum);
+		}
+		return truth;
+	}
+
+	private static List<Event> stream(Random random) {
+		List<Event> events = new ArrayList<>();
+		for (String key : hotKeys()) {
+			for (int i = 0; i < HOT_COUNT; i++) events.add(new Event(key, 0));
+		}
+		for (int i = 0; i < COLD_KEYS; i++) events.add(new Event("cold-" + i, 0));
+		Collections.shuffle(events, random);
+		// Spread evenly over the window in shuffled order, so time only ever moves forward
+		List<Event> timed = new ArrayList<>(events.size());
+		for (int i = 0; i < events.size(); i++) {
+			timed.add(new Event(events.get(i).key(), START + i * WINDOW / events.size()));
+		}
+		return timed;
+	}
+
+	private static List<String> hotKeys() {
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < HOT_KEYS; i++) keys.add("hot-" + i);
+		return keys;
+	}
+}
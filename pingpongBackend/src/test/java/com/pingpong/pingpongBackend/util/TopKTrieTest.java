@@ -0,0 +1,74 @@
+package com.pingpong.pingpongBackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Random adds, decrements and replacements over terms that share long
+ * prefixes, so edges are split and merged again, checked against a plain map
+ * after every batch, for both the updated trie and one loaded from scratch.
+ */
+class TopKTrieTest {
+	private static final int K = 5;
+	private static final String[] TERMS = {"a", "b", "ab", "abc", "j", "ja", "jav", "java", "javas", "javascript", "x", "xy", "xyz"};
+	private static final List<String> PREFIXES = List.of("", "a", "ab", "abcd", "j", "jav", "java", "javas", "x", "xyz", "1", "12", "q");
+
+	@Test
+	void matchesAReferenceMapUnderRandomUpdates() {
+		Random random = new Random(7);
+		TopKTrie trie = new TopKTrie(K);
+		Map<String, Long> reference = new HashMap<>();
+		for (int i = 0; i < 20_000; i++) {
+			String term = random.nextBoolean() ? TERMS[random.nextInt(TERMS.length)] : Integer.toString(random.nextInt(300), 3);
+			long value = random.nextInt(5);
+			switch (random.nextInt(3)) {
+				case 0 -> {
+					trie.add(term, value);
+					reference.merge(term, value, Long::sum);
+				}
+				case 1 -> {
+					trie.add(term, -value);
+					reference.put(term, Math.max(0, reference.getOrDefault(term, 0L) - value));
+				}
+				default -> {
+					trie.setAll(Map.of(term, value));
+					reference.put(term, value);
+				}
+			}
+			if (i % 100 == 0) {
+				TopKTrie loaded = new TopKTrie(K);
+				loaded.load(reference);
+				for (String prefix : PREFIXES) {
+					assertThat(trie.topK(prefix, K)).as(prefix).isEqualTo(expected(reference, prefix, K));
+					assertThat(loaded.topK(prefix, 3)).as(prefix).isEqualTo(expected(reference, prefix, 3));
+				}
+			}
+		}
+	}
+
+	@Test
+	void removesTermsWhoseWeightDropsToZero() {
+		TopKTrie trie = new TopKTrie(K);
+		trie.load(Map.of("java", 3L, "javascript", 2L));
+		trie.add("javascript", -2);
+
+		assertThat(trie.topK("jav", K)).containsExactly(new TopKTrie.Entry("java", 3));
+		assertThat(trie.topK("javas", K)).isEmpty();
+	}
+
+	private static List<TopKTrie.Entry> expected(Map<String, Long> reference, String prefix, int limit) {
+		return reference.entrySet().stream()
+				.filter(e -> e.getValue() > 0 && e.getKey().startsWith(prefix))
+				.map(e -> new TopKTrie.Entry(e.getKey(), e.getValue()))
+				.sorted(Comparator.comparingLong(TopKTrie.Entry::weight).reversed().thenComparing(TopKTrie.Entry::term))
+				.limit(limit)
+				.toList();
+	}
+}
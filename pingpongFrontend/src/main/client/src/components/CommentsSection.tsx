@@ -38,12 +38,15 @@ const CommentsSection: React.FC<CommentsSectionProps> = ({ blogId }) => {
   const [editingCommentId, setEditingCommentId] = useState<number | null>(null);
   const [editContent, setEditContent] = useState('');
   const [editLoading, setEditLoading] = useState(false);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   const fetchComments = async () => {
     setLoading(true);
     try {
-      const data = await commentService.getComments(blogId);
-      setComments(data);
+      const page = await commentService.getComments(blogId);
+      setComments(page.content);
+      setNextCursor(page.nextCursor ?? null);
     } catch (err) {
       setError('Failed to load comments.');
     } finally {
@@ -51,6 +54,24 @@ const CommentsSection: React.FC<CommentsSectionProps> = ({ blogId }) => {
     }
   };
 
+  const handleLoadMore = async () => {
+    if (!nextCursor) return;
+    setLoadingMore(true);
+    try {
+      const page = await commentService.getComments(blogId, nextCursor);
+      // Comments added in this session are already shown at the end; skip them when their page arrives
+      setComments((prev) => {
+        const seen = new Set(prev.map((c) => c.id));
+        return [...prev, ...page.content.filter((c) => !seen.has(c.id))];
+      });
+      setNextCursor(page.nextCursor ?? null);
+    } catch (err) {
+      setError('Failed to load comments.');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     fetchComments();
     // eslint-disable-next-line
@@ -305,6 +326,13 @@ const CommentsSection: React.FC<CommentsSectionProps> = ({ blogId }) => {
           })}
         </List>
       )}
+      {!loading && nextCursor && (
+        <Box sx={{ display: 'flex', justifyContent: 'center', mt: 1 }}>
+          <Button variant="outlined" onClick={handleLoadMore} disabled={loadingMore}>
+            {loadingMore ? 'Loading...' : 'Load more'}
+          </Button>
+        </Box>
+      )}
     </Box>
   );
 };
@@ -1,10 +1,9 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import {
   Container,
   Box,
   Button,
   CircularProgress,
-  Pagination,
   Link as MuiLink,
   Dialog,
   DialogTitle,
@@ -22,22 +21,21 @@ import {
 import { Link, useNavigate } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
 import { blogService, likeService } from '../services/api';
-import type { Blog, PaginatedResponse } from '../types';
+import type { Blog } from '../types';
 import FavoriteIcon from '@mui/icons-material/Favorite';
 import FavoriteBorderIcon from '@mui/icons-material/FavoriteBorder';
 import CommentIcon from '@mui/icons-material/Comment';
 import CommentsSection from '../components/CommentsSection';
-import axios from 'axios';
 
 const Dashboard = () => {
   const { user, logout } = useAuth();
   const [blogs, setBlogs] = useState<Blog[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
-  const [page, setPage] = useState(0);
-  const [totalPages, setTotalPages] = useState(0);
-  const [totalElements, setTotalElements] = useState(0);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [pageSize] = useState(20);
+  const sentinelRef = useRef<HTMLDivElement | null>(null);
   const [open, setOpen] = useState(false);
   const [newBlog, setNewBlog] = useState({ title: '', content: '', imageUrl: '' });
   const [creating, setCreating] = useState(false);
@@ -47,43 +45,60 @@ const Dashboard = () => {
   const fallbackUrl = 'https://www.standardbio.com/Store/NoImageAvailable.jpeg';
   const navigate = useNavigate();
 
-  const fetchBlogs = async () => {
+  // Loads the first page when cursor is null, otherwise appends the page after it
+  const fetchBlogs = async (cursor: string | null) => {
     try {
-      setLoading(true);
-      const response = await axios.get<PaginatedResponse<Blog>>(
-        `http://localhost:8080/api/blogs?page=${page}&size=${pageSize}`
-      );
-      setBlogs(response.data?.content ?? []);
-      setTotalPages(response.data.totalPages);
-      setTotalElements(response.data.totalElements);
+      if (cursor) {
+        setLoadingMore(true);
+      } else {
+        setLoading(true);
+      }
+      const response = await blogService.getFeed(cursor, pageSize);
+      const content = response?.content ?? [];
+      setBlogs((prev) => (cursor ? [...prev, ...content] : content));
+      setNextCursor(response.nextCursor ?? null);
       setError(null);
-      // Fetch like state for each blog
+      // Fetch like state for each new blog; counts come with the blog itself
       const likeStatesObj: Record<number, { liked: boolean; count: number }> = {};
       await Promise.all(
-        response.data.content.map(async (blog) => {
+        content.map(async (blog) => {
           try {
-            const [liked, count] = await Promise.all([
-              likeService.isBlogLikedByUser(blog.id),
-              likeService.getLikeCount(blog.id),
-            ]);
-            likeStatesObj[blog.id] = { liked, count };
+            const liked = user ? await likeService.isBlogLikedByUser(blog.id) : false;
+            likeStatesObj[blog.id] = { liked, count: blog.likeCount ?? 0 };
           } catch {
-            likeStatesObj[blog.id] = { liked: false, count: 0 };
+            likeStatesObj[blog.id] = { liked: false, count: blog.likeCount ?? 0 };
           }
         })
       );
-      setLikeStates(likeStatesObj);
+      setLikeStates((prev) => (cursor ? { ...prev, ...likeStatesObj } : likeStatesObj));
     } catch (err) {
       setError('Failed to fetch blogs');
       console.error('Error fetching blogs:', err);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
   useEffect(() => {
-    fetchBlogs();
-  }, [page]);
+    fetchBlogs(null);
+  }, []);
+
+  // Infinite scroll: fetch the next page when the sentinel below the list becomes visible
+  useEffect(() => {
+    const node = sentinelRef.current;
+    if (!node || !nextCursor) return;
+    const observer = new IntersectionObserver(
+      (entries) => {
+        if (entries[0].isIntersecting && !loadingMore) {
+          fetchBlogs(nextCursor);
+        }
+      },
+      { rootMargin: '200px' }
+    );
+    observer.observe(node);
+    return () => observer.disconnect();
+  }, [nextCursor, loading, loadingMore]);
 
   const handleOpen = () => {
     setOpen(true);
@@ -103,7 +118,7 @@ const Dashboard = () => {
       await blogService.createBlog(newBlog);
       setOpen(false);
       setNewBlog({ title: '', content: '', imageUrl: '' });
-      setPage(0);
+      fetchBlogs(null);
     } catch (err) {
       setCreateError('Failed to create blog.');
     } finally {
@@ -184,10 +199,7 @@ const Dashboard = () => {
               </Typography>
             </Grid>
           ) : (
-            [...blogs]
-              .sort((a, b) => new Date(b.updatedAt).getTime() - new Date(a.updatedAt).getTime())
-              .slice(0, 20)
-              .map((blog) => (
+            blogs.map((blog) => (
                 <Grid key={blog.id} size={{ xs: 12, sm: 6, md: 4 }}>
                   <Paper
                     elevation={3}
@@ -241,7 +253,7 @@ const Dashboard = () => {
                           fontSize: '0.9rem'
                         }}
                       >
-                        {blog.content}
+                        {blog.excerpt ?? blog.content}
                       </Typography>
                       {Array.isArray(blog.hashtags) && blog.hashtags.length > 0 && (
                         <Box sx={{ mb: 1, display: 'flex', flexWrap: 'wrap', gap: 1 }}>
@@ -316,13 +328,8 @@ const Dashboard = () => {
               ))
           )}
         </Grid>
-        <Box sx={{ display: 'flex', justifyContent: 'center', mt: 3 }}>
-          <Pagination
-            count={totalPages}
-            page={page}
-            onChange={(_, value) => setPage(value)}
-            color="primary"
-          />
+        <Box ref={sentinelRef} sx={{ display: 'flex', justifyContent: 'center', mt: 3, minHeight: 40 }}>
+          {loadingMore && <CircularProgress size={24} />}
         </Box>
       </Box>
       <Dialog open={commentDialog.open} onClose={handleCloseComments} maxWidth="sm" fullWidth>
@@ -93,7 +93,7 @@ const HashtagResults = () => {
                         fontSize: '0.9rem'
                       }}
                     >
-                      {blog.content}
+                      {blog.excerpt ?? blog.content}
                     </Typography>
                     {Array.isArray(blog.hashtags) && blog.hashtags.length > 0 && (
                       <Box sx={{ mb: 1, display: 'flex', flexWrap: 'wrap', gap: 1 }}>
@@ -45,6 +45,8 @@ import FavoriteBorderIcon from '@mui/icons-material/FavoriteBorder';
 const Profile = () => {
   const { user, setUser } = useAuth();
   const [blogs, setBlogs] = useState<BlogResponse[]>([]);
+  const [blogsCursor, setBlogsCursor] = useState<string | null>(null);
+  const [loadingMoreBlogs, setLoadingMoreBlogs] = useState(false);
   const [likedBlogs, setLikedBlogs] = useState<BlogResponse[]>([]);
   const [userComments, setUserComments] = useState<CommentResponse[]>([]);
   const [loading, setLoading] = useState(true);
@@ -65,6 +67,8 @@ const Profile = () => {
   const [listLoading, setListLoading] = useState(false);
   const [userList, setUserList] = useState<any[]>([]);
   const [listError, setListError] = useState<string | null>(null);
+  const [listCursor, setListCursor] = useState<string | null>(null);
+  const [loadingMoreList, setLoadingMoreList] = useState(false);
   const fallbackUrl = 'https://www.standardbio.com/Store/NoImageAvailable.jpeg';
   const [likeStates, setLikeStates] = useState<Record<number, { liked: boolean; count: number }>>({});
   const [commentDialog, setCommentDialog] = useState<{ open: boolean; blogId: number | null }>({ open: false, blogId: null });
@@ -78,11 +82,25 @@ const Profile = () => {
     if (!user) return;
     setLoading(true);
     blogService.getBlogsByUser(user.username)
-      .then(setBlogs)
+      .then((page) => {
+        setBlogs(page.content);
+        setBlogsCursor(page.nextCursor ?? null);
+      })
       .catch(() => setBlogs([]))
       .finally(() => setLoading(false));
   }, [user]);
 
+  const handleLoadMoreBlogs = () => {
+    if (!user || !blogsCursor) return;
+    setLoadingMoreBlogs(true);
+    blogService.getBlogsByUser(user.username, blogsCursor)
+      .then((page) => {
+        setBlogs((prev) => [...prev, ...page.content]);
+        setBlogsCursor(page.nextCursor ?? null);
+      })
+      .finally(() => setLoadingMoreBlogs(false));
+  };
+
   useEffect(() => {
     if (tabValue === 1 && user) {
       setLikesLoading(true);
@@ -217,20 +235,38 @@ const Profile = () => {
     setListLoading(true);
     setListError(null);
     try {
-      const data = type === 'followers'
+      const page = type === 'followers'
         ? await userService.getFollowers(user.username)
         : await userService.getFollowing(user.username);
-      setUserList(data);
+      setUserList(page.content);
+      setListCursor(page.nextCursor ?? null);
     } catch (err) {
       setListError('Failed to load list');
       setUserList([]);
+      setListCursor(null);
     }
     setListLoading(false);
   };
 
+  const handleLoadMoreList = () => {
+    if (!user?.username || !openList || !listCursor) return;
+    setLoadingMoreList(true);
+    const request = openList === 'followers'
+      ? userService.getFollowers(user.username, listCursor)
+      : userService.getFollowing(user.username, listCursor);
+    request
+      .then((page) => {
+        setUserList((prev) => [...prev, ...page.content]);
+        setListCursor(page.nextCursor ?? null);
+      })
+      .catch(() => setListError('Failed to load list'))
+      .finally(() => setLoadingMoreList(false));
+  };
+
   const handleCloseList = () => {
     setOpenList(null);
     setUserList([]);
+    setListCursor(null);
     setListError(null);
   };
 
@@ -426,7 +462,7 @@ const Profile = () => {
                                   fontSize: '0.9rem'
                                 }}
                               >
-                                {blog.content}
+                                {blog.excerpt ?? blog.content}
                               </Typography>
                               {Array.isArray(blog.hashtags) && blog.hashtags.length > 0 && (
                                 <Box sx={{ mb: 1, display: 'flex', flexWrap: 'wrap', gap: 1 }}>
@@ -509,6 +545,13 @@ const Profile = () => {
                       ))
                   )}
                 </Grid>
+                {blogsCursor && (
+                  <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+                    <Button variant="outlined" onClick={handleLoadMoreBlogs} disabled={loadingMoreBlogs}>
+                      {loadingMoreBlogs ? 'Loading...' : 'Load more'}
+                    </Button>
+                  </Box>
+                )}
               </Box>
             )}
             {tabValue === 1 && (
@@ -574,7 +617,7 @@ const Profile = () => {
                                 fontSize: '0.9rem'
                               }}
                             >
-                              {blog.content}
+                              {blog.excerpt ?? blog.content}
                             </Typography>
                             {Array.isArray(blog.hashtags) && blog.hashtags.length > 0 && (
                               <Box sx={{ mb: 1, display: 'flex', flexWrap: 'wrap', gap: 1 }}>
@@ -813,6 +856,13 @@ const Profile = () => {
               ))}
             </List>
           )}
+          {!listLoading && listCursor && (
+            <Box sx={{ display: 'flex', justifyContent: 'center', mt: 1 }}>
+              <Button variant="outlined" onClick={handleLoadMoreList} disabled={loadingMoreList}>
+                {loadingMoreList ? 'Loading...' : 'Load more'}
+              </Button>
+            </Box>
+          )}
         </DialogContent>
       </Dialog>
       {/* Edit Comment Dialog */}
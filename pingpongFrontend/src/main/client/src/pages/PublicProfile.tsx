@@ -34,6 +34,8 @@ const PublicProfile: React.FC = () => {
   const { user: currentUser } = useAuth();
   const [profile, setProfile] = useState<PublicUserProfileDTO | null>(null);
   const [blogs, setBlogs] = useState<BlogResponse[]>([]);
+  const [blogsCursor, setBlogsCursor] = useState<string | null>(null);
+  const [loadingMoreBlogs, setLoadingMoreBlogs] = useState(false);
   const [followers, setFollowers] = useState<number>(0);
   const [following, setFollowing] = useState<number>(0);
   const [loading, setLoading] = useState(true);
@@ -44,6 +46,8 @@ const PublicProfile: React.FC = () => {
   const [listLoading, setListLoading] = useState(false);
   const [userList, setUserList] = useState<PublicUserProfileDTO[]>([]);
   const [listError, setListError] = useState<string | null>(null);
+  const [listCursor, setListCursor] = useState<string | null>(null);
+  const [loadingMoreList, setLoadingMoreList] = useState(false);
   const [likeStates, setLikeStates] = useState<Record<number, { liked: boolean; count: number }>>({});
   const [commentDialog, setCommentDialog] = useState<{ open: boolean; blogId: number | null }>({ open: false, blogId: null });
   const fallbackUrl = 'https://www.standardbio.com/Store/NoImageAvailable.jpeg';
@@ -61,7 +65,8 @@ const PublicProfile: React.FC = () => {
         setFollowers(followersCount);
         setFollowing(followingCount);
         setProfile(userProfile);
-        setBlogs(userBlogs);
+        setBlogs(userBlogs.content);
+        setBlogsCursor(userBlogs.nextCursor ?? null);
         if (currentUser && currentUser.username !== username) {
           const following = await userService.isFollowing(username);
           setIsFollowing(following);
@@ -73,6 +78,17 @@ const PublicProfile: React.FC = () => {
       .finally(() => setLoading(false));
   }, [username, currentUser]);
 
+  const handleLoadMoreBlogs = () => {
+    if (!username || !blogsCursor) return;
+    setLoadingMoreBlogs(true);
+    blogService.getBlogsByUser(username, blogsCursor)
+      .then((page) => {
+        setBlogs((prev) => [...prev, ...page.content]);
+        setBlogsCursor(page.nextCursor ?? null);
+      })
+      .finally(() => setLoadingMoreBlogs(false));
+  };
+
   useEffect(() => {
     if (blogs.length === 0 || !currentUser) return;
     const fetchLikeStates = async () => {
@@ -124,20 +140,38 @@ const PublicProfile: React.FC = () => {
     setListLoading(true);
     setListError(null);
     try {
-      const data = type === 'followers'
+      const page = type === 'followers'
         ? await userService.getFollowers(username)
         : await userService.getFollowing(username);
-      setUserList(data);
+      setUserList(page.content);
+      setListCursor(page.nextCursor ?? null);
     } catch (err) {
       setListError('Failed to load list');
       setUserList([]);
+      setListCursor(null);
     }
     setListLoading(false);
   };
 
+  const handleLoadMoreList = () => {
+    if (!username || !openList || !listCursor) return;
+    setLoadingMoreList(true);
+    const request = openList === 'followers'
+      ? userService.getFollowers(username, listCursor)
+      : userService.getFollowing(username, listCursor);
+    request
+      .then((page) => {
+        setUserList((prev) => [...prev, ...page.content]);
+        setListCursor(page.nextCursor ?? null);
+      })
+      .catch(() => setListError('Failed to load list'))
+      .finally(() => setLoadingMoreList(false));
+  };
+
   const handleCloseList = () => {
     setOpenList(null);
     setUserList([]);
+    setListCursor(null);
     setListError(null);
   };
 
@@ -292,7 +326,7 @@ const PublicProfile: React.FC = () => {
                       fontSize: '0.9rem',
                     }}
                   >
-                    {blog.content}
+                    {blog.excerpt ?? blog.content}
                   </Typography>
                   <Box sx={{ display: 'flex', flexWrap: 'wrap', gap: 1, mb: 1 }}>
                     {blog.hashtags && blog.hashtags.map((tag) => (
@@ -348,6 +382,13 @@ const PublicProfile: React.FC = () => {
               </Paper>
             ))
         )}
+        {blogsCursor && (
+          <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+            <Button variant="outlined" onClick={handleLoadMoreBlogs} disabled={loadingMoreBlogs}>
+              {loadingMoreBlogs ? 'Loading...' : 'Load more'}
+            </Button>
+          </Box>
+        )}
       </Box>
       <Dialog open={!!openList} onClose={handleCloseList} fullWidth maxWidth="xs">
         <DialogTitle>{openList === 'followers' ? 'Followers' : 'Following'}</DialogTitle>
@@ -380,6 +421,13 @@ const PublicProfile: React.FC = () => {
               ))}
             </List>
           )}
+          {!listLoading && listCursor && (
+            <Box sx={{ display: 'flex', justifyContent: 'center', mt: 1 }}>
+              <Button variant="outlined" onClick={handleLoadMoreList} disabled={loadingMoreList}>
+                {loadingMoreList ? 'Loading...' : 'Load more'}
+              </Button>
+            </Box>
+          )}
         </DialogContent>
       </Dialog>
       <Dialog open={commentDialog.open} onClose={handleCloseComments} maxWidth="md" fullWidth>
@@ -29,7 +29,7 @@ const UserBlogs: React.FC = () => {
     try {
       // Assuming you have an endpoint to get blogs by username
       const response = await blogService.getBlogsByUser(username);
-      setBlogs(response);
+      setBlogs(response.content);
       setSearchedUser(username);
     } catch (err) {
       setError('User not found or no blogs for this user.');
@@ -71,7 +71,7 @@ const UserBlogs: React.FC = () => {
               {new Date(blog.createdAt).toLocaleDateString()}
             </Typography>
             <Typography variant="body1" sx={{ mt: 2 }}>
-              {blog.content.substring(0, 150)}...
+              {(blog.excerpt ?? blog.content ?? '').substring(0, 150)}...
             </Typography>
           </Box>
         ))}
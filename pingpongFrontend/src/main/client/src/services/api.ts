@@ -1,5 +1,5 @@
 import axios from 'axios';
-import type { LoginRequest, RegisterRequest, AuthResponse, ApiResponse, User, Blog, Comment, PaginatedResponse, BlogResponse, PublicUserProfileDTO, CommentResponse } from '../types';
+import type { LoginRequest, RegisterRequest, AuthResponse, ApiResponse, User, Blog, Comment, PaginatedResponse, CursorPage, BlogResponse, PublicUserProfileDTO, CommentResponse } from '../types';
 
 const API_URL = 'http://localhost:8080/api';
 
@@ -115,6 +115,13 @@ export const blogService = {
     return response.data;
   },
 
+  getFeed: async (cursor: string | null = null, size = 10): Promise<CursorPage<Blog>> => {
+    const params: Record<string, string | number> = { size };
+    if (cursor) params.cursor = cursor;
+    const response = await api.get<CursorPage<Blog>>('/blogs/feed', { params });
+    return response.data;
+  },
+
   getBlog: async (id: number): Promise<Blog> => {
     const response = await api.get<BlogResponse>(`/blogs/${id}`);
     return response.data;
@@ -134,15 +141,19 @@ export const blogService = {
     await api.delete(`/blogs/${id}`);
   },
 
-  getBlogsByUser: async (username: string): Promise<Blog[]> => {
-    const response = await api.get<Blog[]>(`/blogs/user/${username}`);
+  getBlogsByUser: async (username: string, cursor: string | null = null, size = 20): Promise<CursorPage<Blog>> => {
+    const params: Record<string, string | number> = { size };
+    if (cursor) params.cursor = cursor;
+    const response = await api.get<CursorPage<Blog>>(`/blogs/user/${username}`, { params });
     return response.data;
   },
 };
 
 export const commentService = {
-  getComments: async (blogId: number): Promise<Comment[]> => {
-    const response = await api.get<Comment[]>(`/blogs/${blogId}/comments`);
+  getComments: async (blogId: number, cursor: string | null = null, size = 20): Promise<CursorPage<Comment>> => {
+    const params: Record<string, string | number> = { size };
+    if (cursor) params.cursor = cursor;
+    const response = await api.get<CursorPage<Comment>>(`/blogs/${blogId}/comments`, { params });
     return response.data;
   },
 
@@ -226,12 +237,16 @@ export const userService = {
     const response = await api.get<boolean>(`/users/${encodeURIComponent(username)}/is-following`);
     return response.data;
   },
-  getFollowers: async (username: string): Promise<PublicUserProfileDTO[]> => {
-    const response = await api.get<PublicUserProfileDTO[]>(`/users/${encodeURIComponent(username)}/followers`);
+  getFollowers: async (username: string, cursor: string | null = null, size = 20): Promise<CursorPage<PublicUserProfileDTO>> => {
+    const params: Record<string, string | number> = { size };
+    if (cursor) params.cursor = cursor;
+    const response = await api.get<CursorPage<PublicUserProfileDTO>>(`/users/${encodeURIComponent(username)}/followers`, { params });
     return response.data;
   },
-  getFollowing: async (username: string): Promise<PublicUserProfileDTO[]> => {
-    const response = await api.get<PublicUserProfileDTO[]>(`/users/${encodeURIComponent(username)}/following`);
+  getFollowing: async (username: string, cursor: string | null = null, size = 20): Promise<CursorPage<PublicUserProfileDTO>> => {
+    const params: Record<string, string | number> = { size };
+    if (cursor) params.cursor = cursor;
+    const response = await api.get<CursorPage<PublicUserProfileDTO>>(`/users/${encodeURIComponent(username)}/following`, { params });
     return response.data;
   },
 };
@@ -13,6 +13,7 @@ export interface Blog {
   id: number;
   title: string;
   content: string;
+  excerpt?: string;
   author: User;
   createdAt: string;
   updatedAt: string;
@@ -26,6 +27,7 @@ export interface BlogResponse {
   id: number;
   title: string;
   content: string;
+  excerpt?: string;
   author: User;
   createdAt: string;
   updatedAt: string;
@@ -92,6 +94,12 @@ export interface PaginatedResponse<T> {
   number: number;
 }
 
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor?: string | null;
+  size: number;
+}
+
 export interface UserProfileRequest {
   fullName: string;
   bio: string;